@@ -0,0 +1,81 @@
+package benchmark;
+
+import model.Coordinates;
+import model.Direction;
+import model.GameModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * map generation, reachability queries and player movement.
+ * the game is reset to the same seeded map before every iteration, so movement
+ * always starts from the same position and every run measures the same layouts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class MapBenchmark {
+    private static final Direction[] MOVES = {Direction.DOWN, Direction.RIGHT, Direction.UP, Direction.LEFT};
+
+    @Param({"20", "256", "1024", "4096"})
+    private int size;
+
+    @Param({"0.05", "0.2", "0.35"})
+    private double density;
+
+    @Param({"20240601"})
+    private long seed;
+
+    private GameModel model;
+    private int player;
+    private int corner;
+    private int move;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new GameModel(size, size, density, seed);
+        corner = Coordinates.encode(size - 1, size - 1, size);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetGame() {
+        model.resetGame(seed);
+        player = model.getPlayerCell();
+        move = 0;
+    }
+
+    @Benchmark
+    public void generateMap() {
+        model.generateMap();
+    }
+
+    @Benchmark
+    public boolean isReachable() {
+        return model.isReachable(player, corner);
+    }
+
+    /**
+     * walks a small square (down, right, up, left), bumping into obstacles where they block.
+     */
+    @Benchmark
+    public boolean movePlayer() {
+        Direction direction = MOVES[move];
+        move = (move + 1) & 3;
+        return model.movePlayer(direction);
+    }
+}
@@ -0,0 +1,93 @@
+package benchmark;
+
+import model.AStarSearch;
+import model.Direction;
+import model.GameModel;
+import model.GameModelPool;
+import model.GameRules;
+import model.Pathfinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * whole games, one per invocation, on a pooled model and on a new model each time.
+ * a game follows A* hints while it can afford them and walks randomly otherwise,
+ * until it ends. run with -prof gc: once warmed up, gc.alloc.rate.norm for
+ * pooledGame should be zero bytes per game, while newGame shows what a fresh
+ * model costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ModelPoolBenchmark {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int MAX_MOVES = 1000;
+
+    @Param({"20", "256"})
+    private int size;
+
+    @Param({"20240601"})
+    private long seed;
+
+    private GameModelPool pool;
+    private final Pathfinder pathfinder = new AStarSearch();
+    private long game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new GameModelPool(size, size, GameModel.DEFAULT_DENSITY, GameRules.DEFAULT, 1);
+        pool.release(pool.acquire(seed));
+    }
+
+    @Benchmark
+    public int pooledGame() {
+        GameModel model = pool.acquire(seed + game);
+        int score = play(model, game++);
+        pool.release(model);
+        return score;
+    }
+
+    @Benchmark
+    public int newGame() {
+        return play(new GameModel(size, size, GameModel.DEFAULT_DENSITY, seed + game), game++);
+    }
+
+    private int play(GameModel model, long random) {
+        int hintCost = model.getRules().getHintCost() + model.getRules().getMoveCost();
+        for (int moves = 0; moves < MAX_MOVES && !model.isGameOver(); moves++) {
+            Direction direction;
+            if (model.getScore() > hintCost && model.showHint(pathfinder)) {
+                direction = towards(model, model.getLastSearch().getPathCell(0));
+            } else {
+                random = random * 6364136223846793005L + 1442695040888963407L;
+                direction = DIRECTIONS[(int) (random >>> 62)];
+            }
+            model.movePlayer(direction);
+        }
+        return model.getScore();
+    }
+
+    private static Direction towards(GameModel model, int cell) {
+        int x = cell % model.getWidth();
+        int y = cell / model.getWidth();
+        if (x != model.getPlayerX()) {
+            return x < model.getPlayerX() ? Direction.LEFT : Direction.RIGHT;
+        }
+        return y < model.getPlayerY() ? Direction.UP : Direction.DOWN;
+    }
+}
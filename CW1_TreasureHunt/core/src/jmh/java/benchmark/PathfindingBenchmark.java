@@ -0,0 +1,61 @@
+package benchmark;
+
+import model.GameModel;
+import model.Pathfinder;
+import model.PathfinderRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * one hint request per operation, for every registered engine, on a seeded map
+ * generated once per trial. the first request of a trial pays for any lazily
+ * built buffers, so the measured iterations show the steady state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PathfindingBenchmark {
+    @Param({"20", "256", "1024", "4096"})
+    private int size;
+
+    @Param({"0.05", "0.2", "0.35"})
+    private double density;
+
+    @Param({"BFS", "A*", "JPS"})
+    private String engine;
+
+    @Param({"20240601"})
+    private long seed;
+
+    private GameModel model;
+    private Pathfinder pathfinder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new GameModel(size, size, density, seed);
+        pathfinder = PathfinderRegistry.load().get(engine);
+        if (pathfinder == null) {
+            throw new IllegalStateException("no pathfinder named " + engine);
+        }
+    }
+
+    @Benchmark
+    public boolean showHint() {
+        return model.showHint(pathfinder);
+    }
+}
@@ -0,0 +1,263 @@
+package controller;
+
+import model.Direction;
+import model.GameModel;
+import model.HintSnapshot;
+import model.Pathfinder;
+import model.PathfinderRegistry;
+import model.SearchResult;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * the flow of a game, independent of any UI toolkit: moves, hints, resets and
+ * when the game pauses or ends. a front end turns its input into calls here and
+ * shows what GameDisplay reports along with the model's own change events.
+ * every method must be called on the owner thread, whose executor runs deferred
+ * work such as draining queued moves and delivering model changes (on the
+ * desktop, SwingUtilities::invokeLater).
+ */
+public class GameActions {
+    // moves waiting for the next drain; moves beyond the limit are dropped
+    private static final int MAX_QUEUED_MOVES = 64;
+
+    private final GameModel model;
+    private final GameDisplay display;
+    private final Executor owner;
+    private final PathfinderRegistry pathfinders;
+    private final HintService hints;
+
+    private boolean isGameInProgress = false;
+    private boolean changesScheduled = false;
+    private final ArrayDeque<Direction> queuedMoves = new ArrayDeque<>();
+    private boolean drainScheduled = false;
+
+    public GameActions(GameModel model, GameDisplay display, Executor owner) {
+        this.model = model;
+        this.display = display;
+        this.owner = owner;
+        this.pathfinders = PathfinderRegistry.load();
+        this.hints = new HintService(owner);
+    }
+
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * the hint engines a front end can offer.
+     */
+    public PathfinderRegistry getPathfinders() {
+        return pathfinders;
+    }
+
+    public boolean isGameInProgress() {
+        return isGameInProgress;
+    }
+
+    /**
+     * starts the first game.
+     */
+    public void startGame() {
+        resetGame();
+        isGameInProgress = true;
+    }
+
+    /**
+     * queues a move. the queue is drained after the work already waiting on the
+     * owner thread, so a burst of input is applied in one pass with one view
+     * update instead of one update per move.
+     */
+    public void queueMove(Direction direction) {
+        if (!isGameInProgress) {
+            return;
+        }
+        if (queuedMoves.size() < MAX_QUEUED_MOVES) {
+            queuedMoves.add(direction);
+        }
+        if (!drainScheduled) {
+            drainScheduled = true;
+            owner.execute(this::drainMoves);
+        }
+    }
+
+    /**
+     * applies the queued moves in order and then refreshes the view once. a found
+     * treasure or the end of the game stops the drain and drops the moves after it.
+     */
+    private void drainMoves() {
+        drainScheduled = false;
+        boolean moved = false;
+
+        while (isGameInProgress && !queuedMoves.isEmpty()) {
+            moved = true;
+            if (applyMove(queuedMoves.poll())) {
+                queuedMoves.clear();
+                model.flushChanges();
+                isGameInProgress = false;
+
+                display.treasureFound(model.getTreasuresFound(), model.getTreasuresTotal());
+                return;
+            }
+            if (model.isGameOver()) {
+                break;
+            }
+        }
+        queuedMoves.clear();
+
+        if (moved) {
+            model.flushChanges();
+            checkGameStatus();
+        }
+    }
+
+    /**
+     * moves the player one step and reports what happened.
+     * returns true if the move found a treasure.
+     */
+    private boolean applyMove(Direction direction) {
+        int oldX = model.getPlayerX();
+        int oldY = model.getPlayerY();
+
+        display.hintCleared();
+
+        boolean foundTreasure = model.movePlayer(direction);
+
+        // the player moved on, so a hint still being searched is no longer wanted
+        if (hints.cancel()) {
+            display.hintCancelled();
+        }
+
+        int newX = model.getPlayerX();
+        int newY = model.getPlayerY();
+
+        if (oldX == newX && oldY == newY && model.getScore() < model.getRules().getInitialScore()) {
+            // calculating where the obstacle would be based on attempted direction
+            int obstacleX = oldX;
+            int obstacleY = oldY;
+
+            switch (direction) {
+                case UP:
+                    obstacleY--;
+                    break;
+                case DOWN:
+                    obstacleY++;
+                    break;
+                case LEFT:
+                    obstacleX--;
+                    break;
+                case RIGHT:
+                    obstacleX++;
+                    break;
+            }
+
+            if (model.isValidPosition(obstacleX, obstacleY)) {
+                display.obstacleHit(obstacleX, obstacleY);
+            }
+        }
+
+        if (foundTreasure) {
+            display.treasureCollected(newX, newY);
+        }
+
+        return foundTreasure;
+    }
+
+    /**
+     * asks for a hint from the given engine, if the player can afford one.
+     * the search runs in the background; applyHint shows its result once it is done.
+     */
+    public void requestHint(Pathfinder pathfinder) {
+        if (!isGameInProgress) {
+            return;
+        }
+
+        // only showing the hint if we have enough score and treasures remain
+        if (model.getScore() >= model.getRules().getHintCost() && !model.allTreasuresFound()) {
+            model.clearPathHints();
+            display.hintCleared();
+
+            HintSnapshot snapshot = model.snapshotForHint();
+            if (snapshot != null) {
+                display.hintSearching(pathfinder);
+                hints.request(pathfinder, snapshot, this::applyHint);
+            }
+
+            scheduleChanges();
+        }
+    }
+
+    /**
+     * shows a finished hint search, unless the game has moved on since it started.
+     */
+    private void applyHint(Pathfinder pathfinder, HintSnapshot snapshot, SearchResult result) {
+        if (!isGameInProgress) {
+            return;
+        }
+
+        if (model.applyHint(snapshot, result)) {
+            display.hintFinished(pathfinder, model.getLastSearch(), true);
+        } else {
+            display.hintFinished(pathfinder, result, false);
+        }
+
+        scheduleChanges();
+
+        // check if player has run out of points
+        if (model.getScore() <= 0) {
+            isGameInProgress = false;
+            display.gameOver(false, model.getScore());
+            resetGame();
+        }
+    }
+
+    /**
+     * check if the game is over and reports it.
+     */
+    private void checkGameStatus() {
+        if (model.isGameOver()) {
+            isGameInProgress = false;
+            boolean won = model.allTreasuresFound();
+            display.gameOver(won, model.getScore());
+            resetGame();
+        }
+    }
+
+    /**
+     * reset to the initial state.
+     */
+    public void resetGame() {
+        queuedMoves.clear();
+        hints.cancel();
+        display.hintCleared();
+        model.resetGame();
+        scheduleChanges();
+        display.gameReset();
+        isGameInProgress = true;
+    }
+
+    /**
+     * resumes the game after it was paused (e.g., after a popup dialog)
+     */
+    public void resumeGame() {
+        isGameInProgress = true;
+
+        scheduleChanges();
+        checkGameStatus();
+    }
+
+    /**
+     * delivers the model's changes to its listeners once the work already queued
+     * on the owner thread has run, so a burst of input produces a single update.
+     */
+    private void scheduleChanges() {
+        if (!changesScheduled) {
+            changesScheduled = true;
+            owner.execute(() -> {
+                changesScheduled = false;
+                model.flushChanges();
+            });
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package controller;
+
+import model.Pathfinder;
+import model.SearchResult;
+
+/**
+ * what GameActions tells the front end, beyond the model changes it already
+ * listens to: animations to start, hint progress and the messages that pause
+ * the game. every call is made on the thread that owns the model.
+ */
+public interface GameDisplay {
+    /**
+     * the hint shown so far is gone, so its animation should stop.
+     */
+    void hintCleared();
+
+    /**
+     * a search with the given engine has started in the background.
+     */
+    void hintSearching(Pathfinder pathfinder);
+
+    /**
+     * the search in progress was called off because the player moved on.
+     */
+    void hintCancelled();
+
+    /**
+     * a search finished; shown tells whether its next step is now on the map.
+     * result holds the statistics of the search.
+     */
+    void hintFinished(Pathfinder pathfinder, SearchResult result, boolean shown);
+
+    void obstacleHit(int x, int y);
+
+    void treasureCollected(int x, int y);
+
+    /**
+     * a treasure was found; the game is paused until GameActions.resumeGame() is called.
+     */
+    void treasureFound(int treasuresFound, int treasuresTotal);
+
+    /**
+     * the game ended; a new one starts straight after this returns.
+     */
+    void gameOver(boolean won, int finalScore);
+
+    /**
+     * a new game has started.
+     */
+    void gameReset();
+}
@@ -0,0 +1,80 @@
+package controller;
+
+import model.HintSnapshot;
+import model.Pathfinder;
+import model.SearchResult;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * runs hint searches on a background thread against a HintSnapshot and hands the
+ * results back through the owner's executor, the thread that owns the model (the
+ * event dispatch thread on the desktop), so a long search never blocks input
+ * or animation. searches run one at a time, which keeps each pathfinder's
+ * reusable buffers on a single thread. a new request or cancel() calls off the
+ * search in flight, which stops at its next expansion, and the result of a
+ * cancelled request is never delivered.
+ */
+class HintService {
+    /**
+     * receives a finished search on the owner's thread.
+     */
+    interface Callback {
+        void hintReady(Pathfinder pathfinder, HintSnapshot snapshot, SearchResult result);
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hint-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor owner;
+
+    // the request whose result is still wanted; only touched on the owner's thread
+    private HintSnapshot pending;
+
+    HintService(Executor owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * starts a search on the snapshot, cancelling any earlier one.
+     */
+    void request(Pathfinder pathfinder, HintSnapshot snapshot, Callback callback) {
+        cancel();
+        pending = snapshot;
+
+        executor.execute(() -> {
+            SearchResult result = new SearchResult();
+            try {
+                snapshot.search(pathfinder, result);
+            } finally {
+                owner.execute(() -> {
+                    if (pending == snapshot) {
+                        pending = null;
+                        callback.hintReady(pathfinder, snapshot, result);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * cancels the pending search, returning whether there was one.
+     */
+    boolean cancel() {
+        if (pending == null) {
+            return false;
+        }
+        pending.cancel();
+        pending = null;
+        return true;
+    }
+
+    boolean isPending() {
+        return pending != null;
+    }
+}
@@ -0,0 +1,109 @@
+package model;
+
+/**
+ * A* search over packed cell indices (y * width + x) with a Manhattan heuristic
+ * towards the nearest of several goals.
+ * the open set is an indexed binary heap with decrease-key, and g-scores and
+ * parents live in flat int arrays; every buffer is reused across searches and
+ * only reallocated when the grid size changes.
+ */
+public class AStarSearch extends GridSearch implements Pathfinder {
+    @Override
+    public String getName() {
+        return "A*";
+    }
+
+    @Override
+    public String getDescription() {
+        return "A* search";
+    }
+
+    @Override
+    public boolean isHeuristic() {
+        return true;
+    }
+
+    @Override
+    public boolean findPath(SearchSpace space, int start, SearchResult result) {
+        int goal = searchNearest(space, start);
+        result.setExpandedNodes(cellsExplored);
+        result.setHeapOperations(openSet.getOperations());
+
+        if (goal == -1) {
+            return false;
+        }
+
+        int length = gScore[goal];
+        int[] path = result.pathBuffer(length);
+        for (int cell = goal, i = length - 1; i >= 0; cell = parent[cell], i--) {
+            path[i] = cell;
+        }
+        return true;
+    }
+
+    /**
+     * searches from start towards the nearest goal, through any passable cell.
+     * the heuristic is the smallest Manhattan distance to any goal, which stays
+     * consistent, so the first goal polled is the nearest.
+     * a cell counts as explored each time it is added to the open set or its
+     * g-score is lowered. returns the goal reached, or -1 if none is reachable.
+     */
+    private int searchNearest(SearchSpace space, int start) {
+        prepare(space);
+        int seen = nextGeneration();
+        int closed = seen + 1;
+
+        openSet.clear();
+        stamp[start] = seen;
+        gScore[start] = 0;
+        parent[start] = -1;
+        openSet.insert(start, heuristic(start));
+        cellsExplored = 1;
+
+        while (!openSet.isEmpty()) {
+            if (space.isCancelled()) {
+                return -1;
+            }
+            int current = openSet.poll();
+            stamp[current] = closed;
+
+            if (current != start && space.isGoal(current)) {
+                return current;
+            }
+
+            int x = current % width;
+            int y = current / width;
+            int tentativeGScore = gScore[current] + 1;
+
+            if (y + 1 < height) relax(current, current + width, tentativeGScore, seen);
+            if (x + 1 < width) relax(current, current + 1, tentativeGScore, seen);
+            if (y > 0) relax(current, current - width, tentativeGScore, seen);
+            if (x > 0) relax(current, current - 1, tentativeGScore, seen);
+        }
+
+        return -1;
+    }
+
+    /**
+     * offers a cheaper route to a neighbour, inserting it or lowering its key.
+     */
+    private void relax(int current, int next, int tentativeGScore, int seen) {
+        int state = stamp[next];
+        if (state == seen + 1 || !space.isPassable(next)) {
+            return;
+        }
+
+        if (state != seen || tentativeGScore < gScore[next]) {
+            gScore[next] = tentativeGScore;
+            parent[next] = current;
+
+            if (state == seen) {
+                openSet.decreaseKey(next, tentativeGScore + heuristic(next));
+            } else {
+                stamp[next] = seen;
+                openSet.insert(next, tentativeGScore + heuristic(next));
+            }
+            cellsExplored++;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * one bit per cell of a grid, by packed index (see Coordinates): bit cell & 63 of
+ * word cell >>> 6. a lookup is a shift and a mask like a byte load, while whole-grid
+ * operations (counting, clearing, flood fill) work on 64 cells per long.
+ */
+final class BitGrid {
+    private final int width;
+    private final int height;
+    private final long[] words;
+
+    // flood fill state, one row per stride words so rows start on a word boundary
+    private final int stride;
+    private long[] open;
+    private long[] reach;
+
+    BitGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.words = new long[(int) (((long) width * height + 63) >>> 6)];
+        this.stride = (width + 63) >>> 6;
+    }
+
+    private BitGrid(BitGrid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.words = other.words.clone();
+        this.stride = other.stride;
+    }
+
+    boolean get(int cell) {
+        return (words[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    void set(int cell) {
+        words[cell >>> 6] |= 1L << cell;
+    }
+
+    void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * returns a copy that later changes to this grid leave alone.
+     */
+    BitGrid copy() {
+        return new BitGrid(this);
+    }
+
+    /**
+     * returns the number of set cells.
+     */
+    int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * returns the set cell of the given rank, counting from zero in index order.
+     */
+    int select(int rank) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            int bits = Long.bitCount(word);
+            if (rank < bits) {
+                for (; rank > 0; rank--) {
+                    word &= word - 1;
+                }
+                return (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+            rank -= bits;
+        }
+        throw new IndexOutOfBoundsException("rank beyond count");
+    }
+
+    /**
+     * replaces the contents with the cells reachable from start through cells that are
+     * not set in blocked, moving up, down, left and right. each row takes whole runs of
+     * open cells at once with a carry (adding the reached cells to the open ones carries
+     * through the rest of their run), then the rows are swept down and up, each taking
+     * what it touches in the row before, until a pair of sweeps adds nothing.
+     */
+    void fill(BitGrid blocked, int start) {
+        if (open == null) {
+            open = new long[height * stride];
+            reach = new long[height * stride];
+        }
+        for (int y = 0; y < height; y++) {
+            int row = y * stride;
+            for (int k = 0; k < stride; k++) {
+                open[row + k] = ~blocked.extract((long) y * width + ((long) k << 6)) & rowMask(k);
+            }
+        }
+        Arrays.fill(reach, 0);
+        int startRow = start / width;
+        int startX = start - startRow * width;
+        int startWord = startRow * stride + (startX >>> 6);
+        reach[startWord] = 1L << startX & open[startWord];
+        spreadAlong(startRow);
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int y = 1; y < height; y++) {
+                changed |= spreadFrom(y, y - 1);
+            }
+            for (int y = height - 2; y >= 0; y--) {
+                changed |= spreadFrom(y, y + 1);
+            }
+        }
+
+        clear();
+        for (int y = 0; y < height; y++) {
+            int row = y * stride;
+            for (int k = 0; k < stride; k++) {
+                deposit((long) y * width + ((long) k << 6), reach[row + k]);
+            }
+        }
+    }
+
+    /**
+     * adds the open cells of a row that touch the reached cells of the row next to it,
+     * then spreads them along the row. returns whether the row gained any cell.
+     */
+    private boolean spreadFrom(int y, int from) {
+        int row = y * stride;
+        int fromRow = from * stride;
+        boolean gained = false;
+        for (int k = 0; k < stride; k++) {
+            long added = reach[fromRow + k] & open[row + k] & ~reach[row + k];
+            if (added != 0) {
+                reach[row + k] |= added;
+                gained = true;
+            }
+        }
+        if (gained) {
+            spreadAlong(y);
+        }
+        return gained;
+    }
+
+    /**
+     * reaches every open cell in the same run as a reached cell of the row.
+     */
+    private void spreadAlong(int y) {
+        int row = y * stride;
+
+        // rightwards: adding the reached cells to the open run carries up to its end
+        long carry = 0;
+        for (int k = 0; k < stride; k++) {
+            long o = open[row + k];
+            long seeds = reach[row + k] | (carry & o);
+            long filled = (((o + seeds) ^ o) & o) | seeds;
+            reach[row + k] = filled;
+            carry = filled >>> 63;
+        }
+        // leftwards: the same on reversed words, from the last word of the row down
+        carry = 0;
+        for (int k = stride - 1; k >= 0; k--) {
+            long o = Long.reverse(open[row + k]);
+            long seeds = Long.reverse(reach[row + k]) | (carry & o);
+            long filled = (((o + seeds) ^ o) & o) | seeds;
+            reach[row + k] = Long.reverse(filled);
+            carry = filled >>> 63;
+        }
+    }
+
+    /**
+     * returns the mask of the cells word k of a row covers.
+     */
+    private long rowMask(int k) {
+        int cells = width - (k << 6);
+        return cells >= 64 ? -1L : (1L << cells) - 1;
+    }
+
+    /**
+     * returns the 64 bits starting at a bit position, zero past the end of the grid.
+     */
+    private long extract(long bit) {
+        int i = (int) (bit >>> 6);
+        int shift = (int) bit & 63;
+        long value = words[i] >>> shift;
+        if (shift != 0 && i + 1 < words.length) {
+            value |= words[i + 1] << (64 - shift);
+        }
+        return value;
+    }
+
+    /**
+     * sets the bits of value at a bit position; value must be zero past the end of its row.
+     */
+    private void deposit(long bit, long value) {
+        if (value == 0) {
+            return;
+        }
+        int i = (int) (bit >>> 6);
+        int shift = (int) bit & 63;
+        words[i] |= value << shift;
+        if (shift != 0 && i + 1 < words.length) {
+            words[i + 1] |= value >>> (64 - shift);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * breadth-first search over packed cell indices (y * width + x).
+ * when the space maintains distances to the nearest goal, the path is read by
+ * descending them from the start; otherwise one traversal runs outward from the
+ * start until the first goal is dequeued. the queue, parent and visited buffers
+ * are reused across searches and only reallocated when the grid size changes.
+ */
+public class BreadthFirstSearch implements Pathfinder {
+    private SearchSpace space;
+    private int width;
+    private int height;
+
+    // reusable search buffers
+    private int[] queue;
+    private int[] parent;
+    private int[] visited;
+    private int generation;
+
+    // statistics of the last search
+    private int cellsExplored;
+
+    @Override
+    public String getName() {
+        return "BFS";
+    }
+
+    @Override
+    public String getDescription() {
+        return "breadth-first search";
+    }
+
+    @Override
+    public boolean isHeuristic() {
+        return false;
+    }
+
+    @Override
+    public boolean findPath(SearchSpace space, int start, SearchResult result) {
+        int distance = space.distanceToGoal(start);
+        boolean found = distance == SearchSpace.NO_DISTANCE
+                ? traverse(space, start, result)
+                : descend(space, start, distance, result);
+        result.setExpandedNodes(cellsExplored);
+        return found;
+    }
+
+    /**
+     * follows the maintained distances downhill from start, probing neighbours in
+     * the order down, right, up, left. a cell counts as explored each time it is read.
+     */
+    private boolean descend(SearchSpace space, int start, int distance, SearchResult result) {
+        this.space = space;
+        width = space.getWidth();
+        height = space.getHeight();
+        cellsExplored = 1;
+
+        if (distance == SearchSpace.UNREACHABLE || distance == 0) {
+            return false;
+        }
+
+        int[] path = result.pathBuffer(distance);
+        int cell = start;
+        for (int i = 0; i < distance; i++) {
+            cell = closerNeighbour(cell, distance - i - 1);
+            path[i] = cell;
+        }
+        return true;
+    }
+
+    /**
+     * returns the first neighbour of a cell that lies at the given distance from a goal.
+     */
+    private int closerNeighbour(int cell, int closer) {
+        int x = cell % width;
+        int y = cell / width;
+
+        if (y + 1 < height && isAt(cell + width, closer)) return cell + width;
+        if (x + 1 < width && isAt(cell + 1, closer)) return cell + 1;
+        if (y > 0 && isAt(cell - width, closer)) return cell - width;
+        if (x > 0 && isAt(cell - 1, closer)) return cell - 1;
+        throw new IllegalStateException("distance field has no descent from cell " + cell);
+    }
+
+    private boolean isAt(int neighbour, int distance) {
+        cellsExplored++;
+        return space.distanceToGoal(neighbour) == distance;
+    }
+
+    /**
+     * searches outward from start through passable cells and stops at the first goal
+     * dequeued, so one traversal answers "which goal is nearest". a cell counts as
+     * explored when it is enqueued, including the start.
+     */
+    private boolean traverse(SearchSpace space, int start, SearchResult result) {
+        prepare(space);
+        int stamp = nextGeneration();
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = start;
+        visited[start] = stamp;
+        parent[start] = -1;
+        cellsExplored = 1;
+
+        while (head < tail) {
+            if (space.isCancelled()) {
+                return false;
+            }
+            int current = queue[head++];
+
+            if (current != start && space.isGoal(current)) {
+                int length = 0;
+                for (int cell = current; parent[cell] != -1; cell = parent[cell]) {
+                    length++;
+                }
+                int[] path = result.pathBuffer(length);
+                for (int cell = current, i = length - 1; i >= 0; cell = parent[cell], i--) {
+                    path[i] = cell;
+                }
+                return true;
+            }
+
+            int x = current % width;
+            int y = current / width;
+
+            // every cell is enqueued at most once, so the queue never wraps
+            if (y + 1 < height) tail = visit(current, current + width, stamp, tail);
+            if (x + 1 < width) tail = visit(current, current + 1, stamp, tail);
+            if (y > 0) tail = visit(current, current - width, stamp, tail);
+            if (x > 0) tail = visit(current, current - 1, stamp, tail);
+        }
+
+        return false;
+    }
+
+    /**
+     * enqueues a neighbour if it is passable and not yet visited, returning the new queue tail.
+     */
+    private int visit(int current, int next, int stamp, int tail) {
+        if (visited[next] != stamp && space.isPassable(next)) {
+            visited[next] = stamp;
+            parent[next] = current;
+            queue[tail++] = next;
+            cellsExplored++;
+        }
+        return tail;
+    }
+
+    /**
+     * binds the search to a space, reallocating the buffers only if its size changed.
+     */
+    private void prepare(SearchSpace space) {
+        this.space = space;
+        int size = space.getWidth() * space.getHeight();
+        if (visited == null || visited.length != size) {
+            queue = new int[size];
+            parent = new int[size];
+            visited = new int[size];
+            generation = 0;
+        }
+        width = space.getWidth();
+        height = space.getHeight();
+    }
+
+    /**
+     * advances the visited stamp, clearing the buffer only when the counter wraps.
+     */
+    private int nextGeneration() {
+        generation++;
+        if (generation <= 0) {
+            Arrays.fill(visited, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+}
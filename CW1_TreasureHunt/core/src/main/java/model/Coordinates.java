@@ -0,0 +1,24 @@
+package model;
+
+/**
+ * packed cell coordinates, the form the model works in: the cell at (x, y) of a
+ * row-major grid of the given width is the int y * width + x. grids are limited
+ * to Integer.MAX_VALUE cells, so a cell always fits in an int. callers can pass
+ * cells around as plain ints rather than allocating a Point for every position.
+ */
+public final class Coordinates {
+    private Coordinates() {
+    }
+
+    public static int encode(int x, int y, int width) {
+        return y * width + x;
+    }
+
+    public static int decodeX(int cell, int width) {
+        return cell % width;
+    }
+
+    public static int decodeY(int cell, int width) {
+        return cell / width;
+    }
+}
@@ -0,0 +1,93 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * a byte per cell, stored in fixed-size chunks that are shared with frozen copies.
+ * the chunks are reached through pages of chunk references, and the pages through a
+ * small directory. freeze() hands out a copy of the directory and marks every page
+ * and chunk shared in constant time (by advancing a generation stamp); the first
+ * write to a shared page or chunk copies just that page or chunk. so the work per
+ * frozen copy is proportional to the cells written since the last one, plus one
+ * reference per page, which is 64 for a 4096x4096 grid.
+ * a cleared grid points every page at one shared page of all-zero chunks.
+ */
+final class CopyOnWriteGrid {
+    static final int CHUNK_SHIFT = 12;
+    static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    static final int PAGE_SHIFT = 6;
+    static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final byte[] ZERO_CHUNK = new byte[1 << CHUNK_SHIFT];
+    private static final byte[][] ZERO_PAGE = new byte[1 << PAGE_SHIFT][];
+
+    static {
+        Arrays.fill(ZERO_PAGE, ZERO_CHUNK);
+    }
+
+    private final byte[][][] pages;
+    // a page or chunk may be written in place only while its stamp equals the generation
+    private final int[] ownedPages;
+    private final int[] ownedChunks;
+    private int generation = 1;
+
+    CopyOnWriteGrid(int size) {
+        int chunkCount = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+        pages = new byte[(chunkCount + PAGE_MASK) >>> PAGE_SHIFT][][];
+        ownedPages = new int[pages.length];
+        ownedChunks = new int[chunkCount];
+        clear();
+    }
+
+    /**
+     * sets every cell to zero without copying any page or chunk.
+     */
+    void clear() {
+        Arrays.fill(pages, ZERO_PAGE);
+        nextGeneration();
+    }
+
+    void set(int index, byte value) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int page = chunk >>> PAGE_SHIFT;
+        if (ownedPages[page] != generation) {
+            pages[page] = pages[page].clone();
+            ownedPages[page] = generation;
+        }
+        byte[][] chunks = pages[page];
+        if (ownedChunks[chunk] != generation) {
+            chunks[chunk & PAGE_MASK] = chunks[chunk & PAGE_MASK].clone();
+            ownedChunks[chunk] = generation;
+        }
+        chunks[chunk & PAGE_MASK][index & CHUNK_MASK] = value;
+    }
+
+    /**
+     * returns the pages as they are now; later writes never change them.
+     */
+    byte[][][] freeze() {
+        byte[][][] frozen = pages.clone();
+        nextGeneration();
+        return frozen;
+    }
+
+    /**
+     * reads a cell of a grid returned by freeze().
+     */
+    static byte get(byte[][][] frozen, int index) {
+        int chunk = index >>> CHUNK_SHIFT;
+        return frozen[chunk >>> PAGE_SHIFT][chunk & PAGE_MASK][index & CHUNK_MASK];
+    }
+
+    /**
+     * advances the generation, which makes every page and chunk shared, clearing the
+     * stamps only when the counter wraps.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation <= 0) {
+            Arrays.fill(ownedPages, 0);
+            Arrays.fill(ownedChunks, 0);
+            generation = 1;
+        }
+    }
+}
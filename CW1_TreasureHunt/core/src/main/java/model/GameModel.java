@@ -0,0 +1,940 @@
+package model;
+
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The main model class for the Treasure Hunt game.
+ * Contains all the game state and logic.
+ */
+public class GameModel {
+    // constants
+    public static final int GRID_SIZE = 20; // default width and height
+    public static final int NUM_TREASURES = 3;
+    public static final int MIN_OBSTACLES = 10;
+    public static final int MAX_OBSTACLES = 100;
+    public static final int INITIAL_SCORE = 100;
+    public static final double DEFAULT_DENSITY = -1; // MIN..MAX_OBSTACLES per 20x20, scaled by area
+    public static final double MAX_DENSITY = 0.5;
+
+    // packed cell layout: terrain in the low nibble, visible layer in the high nibble
+    private static final int TERRAIN_MASK = 0x0F;
+    private static final int VISIBLE_SHIFT = 4;
+    private static final Cell[] CELLS = Cell.values();
+
+    // regions covering at least 1/SAMPLE_BY_REJECTION of the grid are sampled by rejection
+    private static final int SAMPLE_BY_REJECTION = 8;
+
+    // grid dimensions and the fraction of cells blocked by obstacles
+    private final int width;
+    private final int height;
+    private final double obstacleDensity;
+    private final GameRules rules;
+
+    // seed of the current map; the same seed, dimensions and density give the same map
+    private long seed;
+
+    // game state; positions are kept as primitives or packed indices (y * width + x),
+    // so moves and resets reuse the same arrays instead of allocating points
+    private final byte[] cells;
+    // the obstacles again, one bit per cell, and the cells the player can reach
+    private final BitGrid obstacles;
+    private final BitGrid reachable;
+    private int reachableCount;
+    private int playerX;
+    private int playerY;
+    private int score;
+    private int treasuresFound;
+    // treasures still hidden, in placement order, and those already collected
+    private final int[] treasureCells = new int[NUM_TREASURES];
+    private int treasureCount;
+    private final int[] collectedCells = new int[NUM_TREASURES];
+    private int collectedCount;
+    // cells currently marked as hint steps
+    private int[] hintCells = new int[4];
+    private int hintCount;
+    private boolean hintUsedSinceLastMove;
+
+    // reseeded for every map, so generating one does not allocate a generator
+    private final SplitMixRandom random = new SplitMixRandom();
+
+    // search algorithm statistics
+    private final SearchResult lastSearch = new SearchResult();
+    private int lastPathLength;
+
+    // map structures, created on first use, and the view of the map given to hint engines
+    private TreasureDistanceField distanceField;
+    private boolean distanceFieldValid;
+    private final HintSpace hintSpace = new HintSpace();
+    private final int[] treasureGoals = new int[NUM_TREASURES];
+    private int treasureGoalCount;
+
+    // bumped by every move and new map, so hints computed on a HintSnapshot can tell they are stale
+    private long version;
+    // copy of the obstacles shared by the hint snapshots of the current map, taken on first use,
+    // and the distance field their searches keep; obstacles never change within a map, so
+    // both stay valid until the next one
+    private BitGrid hintObstacles;
+    private HintDistances hintDistances;
+    // the region of the last isReachable start outside the player's region, filled on demand
+    private BitGrid region;
+    private boolean regionValid;
+
+    // copy-on-write mirror of the visible layer, kept once snapshots are first published,
+    // and the latest snapshot taken from it
+    private CopyOnWriteGrid visibleCopy;
+    private volatile MapSnapshot snapshot;
+    private long snapshotSequence;
+
+    // changes waiting for the next flushChanges, recorded only while someone listens
+    private final List<ModelListener> listeners = new ArrayList<>();
+    private List<ModelChange> pendingChanges = new ArrayList<>();
+    private int reportedScore;
+
+    /**
+     *  initializes the game state and generates the initial map.
+     */
+    public GameModel() {
+        this(GRID_SIZE, GRID_SIZE);
+    }
+
+    /**
+     * initializes a game with a grid of the given dimensions.
+     * both layers share one byte per cell, stored row-major.
+     */
+    public GameModel(int width, int height) {
+        this(width, height, DEFAULT_DENSITY);
+    }
+
+    /**
+     * initializes a game with a grid of the given dimensions where each cell is an
+     * obstacle with the given probability, or the default obstacle range for DEFAULT_DENSITY.
+     * dense maps may need several attempts before the player has room for every treasure.
+     */
+    public GameModel(int width, int height, double obstacleDensity) {
+        this(width, height, obstacleDensity, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * initializes a game whose first map is generated from the given seed.
+     */
+    public GameModel(int width, int height, double obstacleDensity, long seed) {
+        this(width, height, obstacleDensity, seed, GameRules.DEFAULT);
+    }
+
+    /**
+     * initializes a game whose first map is generated from the given seed, scored by the given rules.
+     */
+    public GameModel(int width, int height, double obstacleDensity, long seed, GameRules rules) {
+        if (obstacleDensity != DEFAULT_DENSITY && !(obstacleDensity >= 0 && obstacleDensity <= MAX_DENSITY)) {
+            throw new IllegalArgumentException("obstacle density must be in [0, " + MAX_DENSITY + "]: " + obstacleDensity);
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("grid dimensions must be positive: " + width + "x" + height);
+        }
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("grid too large: " + width + "x" + height);
+        }
+        if (width * height <= NUM_TREASURES) {
+            throw new IllegalArgumentException("grid too small for " + NUM_TREASURES + " treasures: " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.obstacleDensity = obstacleDensity;
+        this.rules = rules;
+        cells = new byte[width * height];
+        obstacles = new BitGrid(width, height);
+        reachable = new BitGrid(width, height);
+        hintUsedSinceLastMove = false;
+        resetGame(seed);
+    }
+
+    /**
+     * recreates the game a map ID describes (see getMapId).
+     */
+    public static GameModel fromMapId(String mapId) {
+        String[] parts = mapId.split("-");
+        String[] size = parts[0].split("x");
+        if (parts.length < 2 || parts.length > 3 || size.length != 2) {
+            throw new IllegalArgumentException("malformed map id: " + mapId);
+        }
+
+        try {
+            int width = Integer.parseInt(size[0]);
+            int height = Integer.parseInt(size[1]);
+            double density = parts.length == 3 ? Double.parseDouble(parts[1]) : DEFAULT_DENSITY;
+            long seed = Long.parseUnsignedLong(parts[parts.length - 1], 36);
+            return new GameModel(width, height, density, seed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("malformed map id: " + mapId, e);
+        }
+    }
+
+    /**
+     * resets the game to its initial state on a new random map.
+     */
+    public void resetGame() {
+        resetGame(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * resets the game to its initial state on the map generated from the given seed.
+     */
+    public void resetGame(long seed) {
+        this.seed = seed;
+        score = rules.getInitialScore();
+        treasuresFound = 0;
+        hintUsedSinceLastMove = false;
+        lastSearch.reset();
+        lastPathLength = 0;
+        collectedCount = 0;
+        hintCount = 0;
+        generateMap();
+    }
+
+    /**
+     * generates the map for the current seed, with obstacles and treasures.
+     */
+    public void generateMap() {
+        // every random choice comes from this one stream, so the seed fixes the layout
+        random.reseed(seed);
+
+        // regenerate if the obstacles leave the player too little room for every treasure
+        do {
+            placePlayerAndObstacles(random);
+            reachable.fill(obstacles, playerIndex());
+            reachableCount = reachable.count();
+        } while (reachableCount <= NUM_TREASURES);
+
+        // placing treasures
+        placeTreasures(random);
+        distanceFieldValid = false;
+        hintObstacles = null;
+        hintDistances = null;
+        regionValid = false;
+        version++;
+        pendingChanges.clear();
+        if (isRecording()) {
+            record(ModelChange.mapReset());
+        }
+        publishIfEnabled();
+    }
+
+    /**
+     * returns a compact ID of the current map: "WxH-seed", or "WxH-density-seed" for
+     * a fixed obstacle density, with the seed in unsigned base 36. fromMapId
+     * recreates the same map from it.
+     */
+    public String getMapId() {
+        String prefix = width + "x" + height + "-";
+        if (obstacleDensity != DEFAULT_DENSITY) {
+            prefix += java.math.BigDecimal.valueOf(obstacleDensity).stripTrailingZeros().toPlainString() + "-";
+        }
+        return prefix + Long.toUnsignedString(seed, 36);
+    }
+
+    /**
+     * returns the seed the current map was generated from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * returns the obstacle density maps are generated with, or DEFAULT_DENSITY.
+     */
+    public double getObstacleDensity() {
+        return obstacleDensity;
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * clears the map, places the player in the center and scatters random obstacles.
+     */
+    private void placePlayerAndObstacles(SplitMixRandom rand) {
+        // Initialize map with empty cells (both layers are EMPTY when the byte is zero)
+        Arrays.fill(cells, (byte) 0);
+        obstacles.clear();
+        if (visibleCopy != null) {
+            visibleCopy.clear();
+        }
+
+        // placing the player in the center
+        playerX = width / 2;
+        playerY = height / 2;
+        setTerrain(playerX, playerY, Cell.PLAYER);
+        setVisible(playerX, playerY, Cell.PLAYER);
+
+        long area = (long) width * height;
+
+        // each cell stays free with probability keep
+        double keep;
+        if (obstacleDensity == DEFAULT_DENSITY) {
+            // placing the random obstacles, scaled from the default 20x20 range by map area
+            long defaultArea = (long) GRID_SIZE * GRID_SIZE;
+            int minObstacles = (int) (MIN_OBSTACLES * area / defaultArea);
+            int maxObstacles = (int) (MAX_OBSTACLES * area / defaultArea);
+            int numObstacles = rand.nextInt(maxObstacles - minObstacles + 1) + minObstacles;
+
+            // numObstacles uniform draws (duplicates allowed) leave each cell free with
+            // probability (1 - 1/area)^numObstacles
+            keep = Math.pow(1.0 - 1.0 / area, numObstacles);
+        } else {
+            keep = 1.0 - obstacleDensity;
+        }
+
+        // walking the grid in order with geometric gaps of that probability gives the
+        // same density as independent draws, with sequential writes
+        if (keep >= 1.0) {
+            return;
+        }
+        double logKeep = Math.log(keep);
+        int player = playerIndex();
+
+        for (long cell = skip(rand, logKeep); cell < area; cell += 1 + skip(rand, logKeep)) {
+            if (cell != player) {
+                cells[(int) cell] = (byte) Cell.OBSTACLE.ordinal();
+                obstacles.set((int) cell);
+            }
+        }
+    }
+
+    /**
+     * draws how many free cells come before the next obstacle.
+     */
+    private static long skip(SplitMixRandom rand, double logKeep) {
+        return (long) (Math.log(1.0 - rand.nextDouble()) / logKeep);
+    }
+
+    /**
+     * places treasures on the map, sampling only from the cells the player can reach
+     * so every treasure is reachable without a search per candidate.
+     */
+    private void placeTreasures(SplitMixRandom rand) {
+        treasureCount = 0;
+
+        for (int i = 0; i < NUM_TREASURES; i++) {
+            int cell;
+            do {
+                cell = sampleReachable(rand);
+            } while (getTerrain(cell) != Cell.EMPTY);
+
+            setTerrain(cell % width, cell / width, Cell.TREASURE);
+            treasureCells[treasureCount++] = cell;
+        }
+    }
+
+    /**
+     * returns a uniformly random cell the player can reach. a large region is sampled by
+     * rejection; otherwise a random rank is looked up by counting bits.
+     */
+    private int sampleReachable(SplitMixRandom rand) {
+        if ((long) reachableCount * SAMPLE_BY_REJECTION >= cells.length) {
+            int candidate;
+            do {
+                candidate = rand.nextInt(cells.length);
+            } while (!reachable.get(candidate));
+            return candidate;
+        }
+        return reachable.select(rand.nextInt(reachableCount));
+    }
+
+    /**
+     * check if a position is valid (within grid bounds).
+     */
+    public boolean isValidPosition(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * check if there is a path from start to end point.
+     */
+    public boolean isReachable(Point start, Point end) {
+        return isReachable(start.toCell(width), end.toCell(width));
+    }
+
+    /**
+     * check if there is a path between two packed cells (see Coordinates).
+     * the player's region is known for the whole map; any other start is flood filled
+     * once and kept for the queries that follow.
+     */
+    public boolean isReachable(int startCell, int endCell) {
+        if (startCell == endCell) {
+            return true;
+        }
+        if (reachable.get(startCell)) {
+            return reachable.get(endCell);
+        }
+        if (obstacles.get(startCell)) {
+            return false;
+        }
+        if (!regionValid || !region.get(startCell)) {
+            if (region == null) {
+                region = new BitGrid(width, height);
+            }
+            region.fill(obstacles, startCell);
+            regionValid = true;
+        }
+        return region.get(endCell);
+    }
+
+    /**
+     * attempting to move the player in the specified direction.
+     * returns true if the move resulted in finding a treasure.
+     */
+    public boolean movePlayer(Direction direction) {
+        int newX = playerX;
+        int newY = playerY;
+
+        removeHintCells();
+
+        hintUsedSinceLastMove = false;
+        version++;
+
+        switch (direction) {
+            case UP:
+                newY--;
+                break;
+            case DOWN:
+                newY++;
+                break;
+            case LEFT:
+                newX--;
+                break;
+            case RIGHT:
+                newX++;
+                break;
+        }
+
+        boolean foundTreasure = false;
+
+        if (isValidPosition(newX, newY)) {
+            if (getTerrain(newX, newY) == Cell.OBSTACLE) {
+                score -= rules.getObstaclePenalty();
+
+                setVisible(newX, newY, Cell.OBSTACLE);
+                recordCell(ModelChange.Type.OBSTACLE_REVEALED, newX, newY);
+            } else {
+                // a collected treasure stays visible once the player steps off it
+                boolean isOnDiscoveredTreasure = isCollected(playerY * width + playerX);
+                setVisible(playerX, playerY, isOnDiscoveredTreasure ? Cell.TREASURE : Cell.EMPTY);
+                setTerrain(playerX, playerY, Cell.EMPTY);
+
+                if (getTerrain(newX, newY) == Cell.TREASURE) {
+                    int treasure = newY * width + newX;
+                    treasuresFound++;
+                    recordCell(ModelChange.Type.TREASURE_COLLECTED, newX, newY);
+                    removeTreasure(treasure);
+                    foundTreasure = true;
+
+                    if (distanceFieldValid) {
+                        distanceField.removeSource(treasure);
+                    }
+
+                    collectedCells[collectedCount++] = treasure;
+
+                    setVisible(newX, newY, Cell.TREASURE);
+                }
+
+                recordMove(playerX, playerY, newX, newY);
+                playerX = newX;
+                playerY = newY;
+                setTerrain(newX, newY, Cell.PLAYER);
+                setVisible(newX, newY, Cell.PLAYER);
+
+                score -= rules.getMoveCost();
+            }
+        }
+
+        publishIfEnabled();
+        return foundTreasure;
+    }
+
+    /**
+     * drops a collected treasure from the hidden ones, keeping the others in placement order.
+     */
+    private void removeTreasure(int cell) {
+        for (int i = 0; i < treasureCount; i++) {
+            if (treasureCells[i] == cell) {
+                System.arraycopy(treasureCells, i + 1, treasureCells, i, treasureCount - i - 1);
+                treasureCount--;
+                return;
+            }
+        }
+    }
+
+    private boolean isCollected(int cell) {
+        for (int i = 0; i < collectedCount; i++) {
+            if (collectedCells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * clears any path hints from the map.
+     */
+    public void clearPathHints() {
+        removeHintCells();
+        publishIfEnabled();
+    }
+
+    private void removeHintCells() {
+        for (int i = 0; i < hintCount; i++) {
+            int x = hintCells[i] % width;
+            int y = hintCells[i] / width;
+            if (getVisible(x, y) == Cell.PATH_HINT) {
+                setVisible(x, y, Cell.EMPTY);
+                recordCell(ModelChange.Type.HINT_CLEARED, x, y);
+            }
+        }
+        hintCount = 0;
+    }
+
+    /**
+     * shows only the next step towards the nearest treasure using the given engine.
+     * the path and search statistics are kept in getLastSearch().
+     * returns true if a path was found.
+     */
+    public boolean showHint(Pathfinder pathfinder) {
+        removeHintCells();
+
+        boolean found = false;
+        if (treasureCount > 0) {
+            treasureGoalCount = loadTreasureGoals();
+
+            lastSearch.begin();
+            found = pathfinder.findPath(hintSpace, playerIndex(), lastSearch);
+            lastSearch.end();
+
+            if (found) {
+                showNextStep(lastSearch.getPathCell(0), lastSearch.getPathLength());
+            }
+        }
+
+        publishIfEnabled();
+        return found;
+    }
+
+    /**
+     * captures the obstacles, the player and the remaining treasures, so a hint
+     * search can run on another thread. returns null if no treasure is left.
+     */
+    public HintSnapshot snapshotForHint() {
+        if (treasureCount == 0) {
+            return null;
+        }
+        if (hintObstacles == null) {
+            hintObstacles = obstacles.copy();
+            hintDistances = new HintDistances(hintObstacles, width, height);
+        }
+        int goalCount = loadTreasureGoals();
+        return new HintSnapshot(hintObstacles, hintDistances, width, height, playerIndex(),
+                Arrays.copyOf(treasureGoals, goalCount), version);
+    }
+
+    /**
+     * shows the next step of a search run on a snapshot, charging for it like showHint,
+     * and keeps the result as the last search. returns false without changing anything
+     * if the game has moved on since the snapshot was taken, or if no path was found.
+     */
+    public boolean applyHint(HintSnapshot snapshot, SearchResult result) {
+        if (snapshot.getVersion() != version) {
+            return false;
+        }
+
+        removeHintCells();
+        lastSearch.copyFrom(result);
+        boolean found = result.getPathLength() > 0;
+        if (found) {
+            showNextStep(result.getPathCell(0), result.getPathLength());
+        }
+
+        publishIfEnabled();
+        return found;
+    }
+
+    /**
+     * marks the next step of a hint path and charges for the hint once per move.
+     */
+    private void showNextStep(int nextStep, int shortestDistance) {
+        int stepX = nextStep % width;
+        int stepY = nextStep / width;
+
+        if (getTerrain(stepX, stepY) != Cell.OBSTACLE ||
+                getVisible(stepX, stepY) == Cell.OBSTACLE) {
+
+            setVisible(stepX, stepY, Cell.PATH_HINT);
+            recordCell(ModelChange.Type.HINT_SET, stepX, stepY);
+            if (hintCount == hintCells.length) {
+                hintCells = Arrays.copyOf(hintCells, hintCount * 2);
+            }
+            hintCells[hintCount++] = nextStep;
+        }
+
+        lastPathLength = shortestDistance;
+
+        if (!hintUsedSinceLastMove) {
+            score -= rules.getHintCost();
+            hintUsedSinceLastMove = true;
+        }
+    }
+
+    /**
+     * returns the packed index (y * width + x) of the player's cell.
+     */
+    private int playerIndex() {
+        return playerY * width + playerX;
+    }
+
+    /**
+     * copies the remaining treasure locations, in list order, into the packed goal buffer.
+     * returns the number of goals.
+     */
+    private int loadTreasureGoals() {
+        System.arraycopy(treasureCells, 0, treasureGoals, 0, treasureCount);
+        return treasureCount;
+    }
+
+    /**
+     * reads the terrain layer of a cell.
+     */
+    private Cell getTerrain(int x, int y) {
+        return CELLS[cells[y * width + x] & TERRAIN_MASK];
+    }
+
+    /**
+     * reads the terrain layer of a cell by its packed index (y * width + x).
+     */
+    Cell getTerrain(int index) {
+        return CELLS[cells[index] & TERRAIN_MASK];
+    }
+
+    /**
+     * checks a cell for an obstacle by its packed index.
+     */
+    boolean isObstacle(int index) {
+        return obstacles.get(index);
+    }
+
+    /**
+     * writes the terrain layer of a cell, keeping its visible layer.
+     */
+    private void setTerrain(int x, int y, Cell cell) {
+        int index = y * width + x;
+        cells[index] = (byte) ((cells[index] & ~TERRAIN_MASK) | cell.ordinal());
+    }
+
+    /**
+     * reads the visible layer of a cell.
+     */
+    private Cell getVisible(int x, int y) {
+        return CELLS[(cells[y * width + x] & 0xFF) >>> VISIBLE_SHIFT];
+    }
+
+    /**
+     * writes the visible layer of a cell, keeping its terrain layer.
+     */
+    private void setVisible(int x, int y, Cell cell) {
+        int index = y * width + x;
+        byte updated = (byte) ((cells[index] & TERRAIN_MASK) | (cell.ordinal() << VISIBLE_SHIFT));
+        if (updated != cells[index]) {
+            cells[index] = updated;
+            if (visibleCopy != null) {
+                visibleCopy.set(index, (byte) cell.ordinal());
+            }
+        }
+    }
+
+    /**
+     * registers a listener for the changes delivered by flushChanges.
+     */
+    public void addModelListener(ModelListener listener) {
+        if (listeners.isEmpty()) {
+            reportedScore = score;
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * detaches the model from everything that observed it, before it goes back into a
+     * GameModelPool: listeners, pending changes and published snapshots.
+     */
+    void detach() {
+        listeners.clear();
+        pendingChanges.clear();
+        visibleCopy = null;
+        snapshot = null;
+    }
+
+    public void removeModelListener(ModelListener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            pendingChanges.clear();
+        }
+    }
+
+    /**
+     * delivers the changes recorded since the last call to every listener, as one batch.
+     * the score is reported once per batch, with its value before and after.
+     * nothing is delivered if nothing changed.
+     */
+    public void flushChanges() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        if (score != reportedScore) {
+            pendingChanges.add(ModelChange.scoreChanged(reportedScore, score));
+            reportedScore = score;
+        }
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        List<ModelChange> batch = Collections.unmodifiableList(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        for (ModelListener listener : new ArrayList<>(listeners)) {
+            listener.modelChanged(batch);
+        }
+    }
+
+    private boolean isRecording() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * records a change; callers check isRecording first, so no change is built
+     * while nobody listens.
+     */
+    private void record(ModelChange change) {
+        pendingChanges.add(change);
+    }
+
+    private void recordCell(ModelChange.Type type, int x, int y) {
+        if (isRecording()) {
+            record(ModelChange.cellChanged(type, x, y));
+        }
+    }
+
+    private void recordMove(int fromX, int fromY, int toX, int toY) {
+        if (isRecording()) {
+            record(ModelChange.playerMoved(fromX, fromY, toX, toY));
+        }
+    }
+
+    /**
+     * publishes a snapshot of the visible state and returns it. from the first call on,
+     * the model also publishes one after every change (a move, a hint, a new map), so
+     * getSnapshot() always returns the current state. must be called by the thread that
+     * changes the model; building the first snapshot reads every cell once, later ones
+     * cost the cells changed since the previous snapshot.
+     */
+    public MapSnapshot publishSnapshot() {
+        if (visibleCopy == null) {
+            visibleCopy = new CopyOnWriteGrid(cells.length);
+            for (int i = 0; i < cells.length; i++) {
+                int visible = (cells[i] & 0xFF) >>> VISIBLE_SHIFT;
+                if (visible != 0) {
+                    visibleCopy.set(i, (byte) visible);
+                }
+            }
+        }
+
+        MapSnapshot published = new MapSnapshot(width, height, visibleCopy.freeze(),
+                playerX, playerY, score, treasuresFound,
+                Arrays.copyOf(hintCells, hintCount), ++snapshotSequence);
+        snapshot = published;
+        return published;
+    }
+
+    /**
+     * returns the latest published snapshot, or null if none has been published yet.
+     * safe to call from any thread.
+     */
+    public MapSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishIfEnabled() {
+        if (visibleCopy != null) {
+            publishSnapshot();
+        }
+    }
+
+    // getters and setters
+    public Cell getCell(int x, int y) {
+        return getVisible(x, y); // Return the visible grid cell
+    }
+
+    /**
+     * returns the visible cell at a packed index (see Coordinates).
+     */
+    public Cell getCell(int cell) {
+        return CELLS[(cells[cell] & 0xFF) >>> VISIBLE_SHIFT];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getTreasuresFound() {
+        return treasuresFound;
+    }
+
+    public int getTreasuresTotal() {
+        return NUM_TREASURES;
+    }
+
+    public boolean isGameOver() {
+        return treasuresFound == NUM_TREASURES || score <= 0;
+    }
+
+    public boolean allTreasuresFound() {
+        return treasuresFound == NUM_TREASURES;
+    }
+
+    /**
+     * returns the player's position as a new Point; getPlayerX and getPlayerY
+     * read it without allocating.
+     */
+    public Point getPlayerPosition() {
+        return new Point(playerX, playerY);
+    }
+
+    public int getPlayerX() {
+        return playerX;
+    }
+
+    public int getPlayerY() {
+        return playerY;
+    }
+
+    /**
+     * returns the player's position as a packed cell (see Coordinates).
+     */
+    public int getPlayerCell() {
+        return playerIndex();
+    }
+
+    /**
+     * returns the number of treasures still hidden on the map.
+     */
+    public int getTreasureCount() {
+        return treasureCount;
+    }
+
+    /**
+     * returns a hidden treasure as a packed cell, in the order they were placed.
+     * the map does not show these; they are for bots, tools and tests.
+     */
+    public int getTreasureCell(int i) {
+        if (i < 0 || i >= treasureCount) {
+            throw new IndexOutOfBoundsException("treasure " + i + " of " + treasureCount);
+        }
+        return treasureCells[i];
+    }
+
+    /**
+     * returns the cells currently marked as hint steps as a new list;
+     * getHintCellCount and getHintCell read them without allocating.
+     */
+    public List<Point> getHintPath() {
+        List<Point> path = new ArrayList<>(hintCount);
+        for (int i = 0; i < hintCount; i++) {
+            path.add(Point.fromCell(hintCells[i], width));
+        }
+        return path;
+    }
+
+    public int getHintCellCount() {
+        return hintCount;
+    }
+
+    /**
+     * returns a cell marked as a hint step, as a packed cell (see Coordinates).
+     */
+    public int getHintCell(int i) {
+        if (i < 0 || i >= hintCount) {
+            throw new IndexOutOfBoundsException("hint cell " + i + " of " + hintCount);
+        }
+        return hintCells[i];
+    }
+
+
+    /**
+     * returns the path and statistics of the last hint calculation.
+     * the result object is reused by the next hint.
+     */
+    public SearchResult getLastSearch() {
+        return lastSearch;
+    }
+
+    /**
+     * returns the length of the last calculated path.
+     */
+    public int getLastPathLength() {
+        return lastPathLength;
+    }
+
+    /**
+     * the map as seen by hint engines: obstacles block, remaining treasures are goals,
+     * and the treasure distance field is built on first use and kept up to date.
+     */
+    private final class HintSpace implements SearchSpace {
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public boolean isPassable(int cell) {
+            return !isObstacle(cell);
+        }
+
+        @Override
+        public boolean isGoal(int cell) {
+            return getTerrain(cell) == Cell.TREASURE;
+        }
+
+        @Override
+        public int getGoalCount() {
+            return treasureGoalCount;
+        }
+
+        @Override
+        public int getGoal(int index) {
+            return treasureGoals[index];
+        }
+
+        @Override
+        public int distanceToGoal(int cell) {
+            if (distanceField == null) {
+                distanceField = new TreasureDistanceField(obstacles, width, height);
+            }
+            if (!distanceFieldValid) {
+                distanceField.build(treasureGoals, loadTreasureGoals());
+                distanceFieldValid = true;
+            }
+            return distanceField.distanceAt(cell);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package model;
+
+import java.util.ArrayDeque;
+
+/**
+ * a pool of GameModel instances of one size, density and set of rules.
+ * acquire resets an idle model in place to the given seed, reusing its cells,
+ * obstacle and reachability bitboards, distance field and search buffers, so once
+ * the pool has warmed up a new game allocates nothing. at most maxIdle released
+ * models are kept; the rest are left to the garbage collector. safe to share
+ * between threads, though a model itself must only be used by one thread at a time.
+ */
+public final class GameModelPool {
+    private final int width;
+    private final int height;
+    private final double obstacleDensity;
+    private final GameRules rules;
+    private final int maxIdle;
+
+    private final ArrayDeque<GameModel> idle;
+    private long created;
+
+    public GameModelPool(int width, int height, double obstacleDensity, GameRules rules, int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must not be negative: " + maxIdle);
+        }
+        this.width = width;
+        this.height = height;
+        this.obstacleDensity = obstacleDensity;
+        this.rules = rules;
+        this.maxIdle = maxIdle;
+        this.idle = new ArrayDeque<>(Math.min(maxIdle, 1024));
+    }
+
+    /**
+     * returns a model showing a new game on the map of the given seed, reusing an
+     * idle model when there is one.
+     */
+    public GameModel acquire(long seed) {
+        GameModel model;
+        synchronized (this) {
+            model = idle.pollLast();
+            if (model == null) {
+                created++;
+            }
+        }
+
+        if (model == null) {
+            return new GameModel(width, height, obstacleDensity, seed, rules);
+        }
+        model.resetGame(seed);
+        return model;
+    }
+
+    /**
+     * hands a model back once its game is over. the model is detached from its
+     * listeners and snapshots and must not be used again by the caller.
+     */
+    public void release(GameModel model) {
+        if (model.getWidth() != width || model.getHeight() != height
+                || model.getObstacleDensity() != obstacleDensity || model.getRules() != rules) {
+            throw new IllegalArgumentException("model was not created by this pool");
+        }
+        model.detach();
+        synchronized (this) {
+            if (idle.size() < maxIdle) {
+                idle.addLast(model);
+            }
+        }
+    }
+
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * returns how many models the pool has had to create because none was idle.
+     */
+    public synchronized long getCreatedCount() {
+        return created;
+    }
+}
@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * the scoring constants of a game: the starting score and what a move, a bump into
+ * an obstacle and a hint cost. DEFAULT holds the desktop game's rules; simulations
+ * pass other values to GameModel to tune them.
+ */
+public final class GameRules {
+    public static final GameRules DEFAULT = new GameRules(GameModel.INITIAL_SCORE, 1, 10, 3);
+
+    private final int initialScore;
+    private final int moveCost;
+    private final int obstaclePenalty;
+    private final int hintCost;
+
+    public GameRules(int initialScore, int moveCost, int obstaclePenalty, int hintCost) {
+        if (initialScore <= 0) {
+            throw new IllegalArgumentException("initial score must be positive: " + initialScore);
+        }
+        if (moveCost < 0 || obstaclePenalty < 0 || hintCost < 0) {
+            throw new IllegalArgumentException("costs must not be negative: move " + moveCost
+                    + ", obstacle " + obstaclePenalty + ", hint " + hintCost);
+        }
+        this.initialScore = initialScore;
+        this.moveCost = moveCost;
+        this.obstaclePenalty = obstaclePenalty;
+        this.hintCost = hintCost;
+    }
+
+    public int getInitialScore() {
+        return initialScore;
+    }
+
+    public int getMoveCost() {
+        return moveCost;
+    }
+
+    public int getObstaclePenalty() {
+        return obstaclePenalty;
+    }
+
+    /**
+     * returns what a hint costs; it is charged at most once between two moves.
+     */
+    public int getHintCost() {
+        return hintCost;
+    }
+
+    @Override
+    public String toString() {
+        return "start " + initialScore + ", move " + moveCost + ", obstacle " + obstaclePenalty + ", hint " + hintCost;
+    }
+}
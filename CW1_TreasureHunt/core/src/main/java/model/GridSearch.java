@@ -0,0 +1,80 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * what AStarSearch and JumpPointSearch share: the space being searched, the
+ * buffers behind the open set, and the heuristic towards the nearest of several
+ * goals. cells are packed indices (y * width + x). the buffers are reused across
+ * searches and only reallocated when the grid size changes; a cell belongs to the
+ * current search only if its stamp is the current generation (seen) or the one
+ * after it (closed).
+ */
+abstract class GridSearch {
+    SearchSpace space;
+    int width;
+    int height;
+
+    // reusable search buffers
+    IndexedMinHeap openSet;
+    int[] gScore;
+    int[] parent;
+    int[] stamp;
+    private int generation;
+
+    // statistics of the last search
+    int cellsExplored;
+
+    /**
+     * returns the smallest Manhattan distance from a cell to any of the goals.
+     * it never overestimates and stays consistent, so the first goal polled is the nearest.
+     */
+    int heuristic(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        int best = Integer.MAX_VALUE;
+
+        for (int i = 0, goalCount = space.getGoalCount(); i < goalCount; i++) {
+            int goal = space.getGoal(i);
+            int distance = Math.abs(x - goal % width) + Math.abs(y - goal / width);
+            if (distance < best) {
+                best = distance;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * binds the search to a space, reallocating the buffers only if its size changed.
+     * returns true if they were reallocated.
+     */
+    boolean prepare(SearchSpace space) {
+        this.space = space;
+        width = space.getWidth();
+        height = space.getHeight();
+
+        int size = width * height;
+        if (stamp != null && stamp.length == size) {
+            return false;
+        }
+        openSet = new IndexedMinHeap(size);
+        gScore = new int[size];
+        parent = new int[size];
+        stamp = new int[size];
+        generation = 0;
+        return true;
+    }
+
+    /**
+     * advances the stamp by two (seen, closed), clearing the buffer only when the counter wraps.
+     */
+    int nextGeneration() {
+        generation += 2;
+        if (generation <= 0) {
+            Arrays.fill(stamp, 0);
+            generation = 2;
+        }
+        return generation;
+    }
+}
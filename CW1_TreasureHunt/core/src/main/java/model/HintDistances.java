@@ -0,0 +1,71 @@
+package model;
+
+/**
+ * the treasure distance field read by hint searches on HintSnapshots, shared by
+ * every snapshot of the same map. it is built by the first search that asks for a
+ * distance and repaired by later ones as treasures drop out of the goals, always
+ * on the searching thread, so the thread that owns the model never pays for it.
+ * searches that read it take turns on this object.
+ */
+final class HintDistances {
+    private final BitGrid obstacles;
+    private final int width;
+    private final int height;
+
+    private TreasureDistanceField field;
+    // the treasures the field currently measures from
+    private final int[] sources = new int[GameModel.NUM_TREASURES];
+    private int sourceCount;
+
+    HintDistances(BitGrid obstacles, int width, int height) {
+        this.obstacles = obstacles;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * brings the field in line with the given goals: removed treasures are repaired
+     * away, and anything else (the first search, or goals the field has never seen)
+     * rebuilds it.
+     */
+    void update(int[] goals) {
+        if (field != null && containsAll(sources, sourceCount, goals)) {
+            for (int i = sourceCount - 1; i >= 0; i--) {
+                if (!contains(goals, goals.length, sources[i])) {
+                    field.removeSource(sources[i]);
+                    sources[i] = sources[--sourceCount];
+                }
+            }
+            return;
+        }
+
+        if (field == null) {
+            field = new TreasureDistanceField(obstacles, width, height);
+        }
+        field.build(goals, goals.length);
+        System.arraycopy(goals, 0, sources, 0, goals.length);
+        sourceCount = goals.length;
+    }
+
+    int distanceAt(int cell) {
+        return field.distanceAt(cell);
+    }
+
+    private static boolean containsAll(int[] cells, int count, int[] wanted) {
+        for (int cell : wanted) {
+            if (!contains(cells, count, cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package model;
+
+/**
+ * an immutable copy of what a hint search reads from a GameModel: the obstacles,
+ * the player's cell and the remaining treasures. a search can run on it from any
+ * thread while the model keeps changing; GameModel.applyHint then shows the
+ * result, unless the model has moved on since the snapshot was taken.
+ * the obstacle layer is shared by every snapshot of the same map, so taking a
+ * snapshot costs only the goals. so is the treasure distance field, which the
+ * searches keep up to date themselves (see HintDistances); BFS reads its path off
+ * that field once it is built.
+ */
+public final class HintSnapshot implements SearchSpace {
+    private final BitGrid obstacles;
+    private final HintDistances distances;
+    private final int width;
+    private final int height;
+    private final int start;
+    private final int[] goals;
+    private final long version;
+    private volatile boolean cancelled;
+    // whether the shared distance field has been brought up to date with the goals
+    private boolean distancesUpdated;
+
+    HintSnapshot(BitGrid obstacles, HintDistances distances, int width, int height, int start,
+                 int[] goals, long version) {
+        this.obstacles = obstacles;
+        this.distances = distances;
+        this.width = width;
+        this.height = height;
+        this.start = start;
+        this.goals = goals;
+        this.version = version;
+    }
+
+    /**
+     * runs a search from the player's cell, measuring it on the calling thread.
+     * returns true if a path was found and the snapshot was not cancelled.
+     * searches on snapshots of the same map run one at a time, since they share
+     * the distance field.
+     */
+    public boolean search(Pathfinder pathfinder, SearchResult result) {
+        synchronized (distances) {
+            result.begin();
+            boolean found = !cancelled && pathfinder.findPath(this, start, result);
+            result.end();
+            return found && !cancelled;
+        }
+    }
+
+    /**
+     * calls off a search running on this snapshot; it stops at its next expansion.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * returns the model version the snapshot was taken at.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean isPassable(int cell) {
+        return !obstacles.get(cell);
+    }
+
+    @Override
+    public boolean isGoal(int cell) {
+        for (int goal : goals) {
+            if (goal == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getGoalCount() {
+        return goals.length;
+    }
+
+    @Override
+    public int getGoal(int index) {
+        return goals[index];
+    }
+
+    @Override
+    public int distanceToGoal(int cell) {
+        if (!distancesUpdated) {
+            distances.update(goals);
+            distancesUpdated = true;
+        }
+        return distances.distanceAt(cell);
+    }
+}
@@ -0,0 +1,124 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * binary min-heap of cell indices keyed by an int priority, with decrease-key.
+ * each cell's heap slot is tracked in a flat array, so all operations are
+ * allocation-free once the heap has been sized for a grid.
+ */
+class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] priority;
+    private final int[] position;
+    private int size;
+
+    // insertions, key decreases and polls since the last clear
+    private int operations;
+
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        priority = new int[capacity];
+        position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int cell) {
+        return position[cell] != -1;
+    }
+
+    /**
+     * adds a cell that is not yet in the heap.
+     */
+    void insert(int cell, int key) {
+        priority[cell] = key;
+        operations++;
+        siftUp(size++, cell);
+    }
+
+    /**
+     * lowers the priority of a cell already in the heap.
+     */
+    void decreaseKey(int cell, int key) {
+        priority[cell] = key;
+        operations++;
+        siftUp(position[cell], cell);
+    }
+
+    /**
+     * removes and returns the cell with the lowest priority.
+     */
+    int poll() {
+        int result = heap[0];
+        position[result] = -1;
+        operations++;
+
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return result;
+    }
+
+    /**
+     * empties the heap, resetting only the slots that are still occupied, and the operation count.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+        operations = 0;
+    }
+
+    /**
+     * returns the number of insertions, key decreases and polls since the last clear.
+     */
+    int getOperations() {
+        return operations;
+    }
+
+    // sift rules follow java.util.PriorityQueue so equal priorities leave the heap in the same order
+    private void siftUp(int k, int cell) {
+        int key = priority[cell];
+        while (k > 0) {
+            int parentSlot = (k - 1) >>> 1;
+            int parent = heap[parentSlot];
+            if (key >= priority[parent]) {
+                break;
+            }
+            place(k, parent);
+            k = parentSlot;
+        }
+        place(k, cell);
+    }
+
+    private void siftDown(int k, int cell) {
+        int key = priority[cell];
+        int half = size >>> 1;
+        while (k < half) {
+            int childSlot = (k << 1) + 1;
+            int child = heap[childSlot];
+            int rightSlot = childSlot + 1;
+            if (rightSlot < size && priority[child] > priority[heap[rightSlot]]) {
+                childSlot = rightSlot;
+                child = heap[childSlot];
+            }
+            if (key <= priority[child]) {
+                break;
+            }
+            place(k, child);
+            k = childSlot;
+        }
+        place(k, cell);
+    }
+
+    private void place(int slot, int cell) {
+        heap[slot] = cell;
+        position[cell] = slot;
+    }
+}
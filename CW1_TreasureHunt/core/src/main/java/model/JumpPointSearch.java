@@ -0,0 +1,208 @@
+package model;
+
+/**
+ * jump point search for the 4-connected, uniform-cost grid, towards the nearest
+ * of several treasures. canonical paths move vertically first: a vertical run may
+ * turn horizontally anywhere, but a horizontal run only turns where the cell
+ * diagonally behind it is blocked. straight runs are skipped in one jump, so only
+ * the cells where a canonical path can change direction enter the open set.
+ */
+public class JumpPointSearch extends GridSearch implements Pathfinder {
+    private static final int NONE = -1;
+
+    // arrival direction of each jump point, reallocated with the shared buffers
+    private byte[] arrival;
+
+    // arrival directions, as in movement order: down, right, up, left
+    private static final byte DOWN = 0;
+    private static final byte RIGHT = 1;
+    private static final byte UP = 2;
+    private static final byte LEFT = 3;
+    private static final byte START = 4;
+
+    @Override
+    public String getName() {
+        return "JPS";
+    }
+
+    @Override
+    public String getDescription() {
+        return "jump point search";
+    }
+
+    @Override
+    public boolean isHeuristic() {
+        return true;
+    }
+
+    @Override
+    public boolean findPath(SearchSpace space, int start, SearchResult result) {
+        int goal = searchNearest(space, start);
+        result.setExpandedNodes(cellsExplored);
+        result.setHeapOperations(openSet.getOperations());
+
+        if (goal == -1) {
+            return false;
+        }
+
+        // walk the jump points back from the goal, filling in the straight runs between them
+        int length = gScore[goal];
+        int[] path = result.pathBuffer(length);
+        int i = length - 1;
+        for (int jumpPoint = goal; parent[jumpPoint] != NONE; jumpPoint = parent[jumpPoint]) {
+            int from = parent[jumpPoint];
+            int step = Integer.signum(jumpPoint / width - from / width) * width
+                    + Integer.signum(jumpPoint % width - from % width);
+            for (int cell = jumpPoint; cell != from; cell -= step) {
+                path[i--] = cell;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * searches from start towards the nearest goal.
+     * a jump point counts as explored each time it is added to the open set or its
+     * g-score is lowered, the same measure AStarSearch reports.
+     * returns the goal reached, or -1 if none is reachable.
+     */
+    private int searchNearest(SearchSpace space, int start) {
+        if (prepare(space)) {
+            arrival = new byte[stamp.length];
+        }
+        int seen = nextGeneration();
+        int closed = seen + 1;
+
+        openSet.clear();
+        stamp[start] = seen;
+        gScore[start] = 0;
+        parent[start] = NONE;
+        arrival[start] = START;
+        openSet.insert(start, heuristic(start));
+        cellsExplored = 1;
+
+        while (!openSet.isEmpty()) {
+            if (space.isCancelled()) {
+                return -1;
+            }
+            int current = openSet.poll();
+            stamp[current] = closed;
+
+            if (current != start && space.isGoal(current)) {
+                return current;
+            }
+
+            int x = current % width;
+            int y = current / width;
+
+            switch (arrival[current]) {
+                case START:
+                    expand(current, jumpVertical(x, y, 1), DOWN, seen);
+                    expand(current, jumpHorizontal(x, y, 1), RIGHT, seen);
+                    expand(current, jumpVertical(x, y, -1), UP, seen);
+                    expand(current, jumpHorizontal(x, y, -1), LEFT, seen);
+                    break;
+                case DOWN:
+                case UP: {
+                    int dy = arrival[current] == DOWN ? 1 : -1;
+                    expand(current, jumpVertical(x, y, dy), arrival[current], seen);
+                    expand(current, jumpHorizontal(x, y, 1), RIGHT, seen);
+                    expand(current, jumpHorizontal(x, y, -1), LEFT, seen);
+                    break;
+                }
+                default: {
+                    int dx = arrival[current] == RIGHT ? 1 : -1;
+                    expand(current, jumpHorizontal(x, y, dx), arrival[current], seen);
+                    if (isForced(x, y, dx, 1)) {
+                        expand(current, jumpVertical(x, y, 1), DOWN, seen);
+                    }
+                    if (isForced(x, y, dx, -1)) {
+                        expand(current, jumpVertical(x, y, -1), UP, seen);
+                    }
+                    break;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * scans horizontally from (x, y) and returns the first jump point: a goal, or a
+     * cell with a forced vertical turn. returns NONE when the row is blocked first.
+     */
+    private int jumpHorizontal(int x, int y, int dx) {
+        int rowStart = y * width;
+        for (x += dx; x >= 0 && x < width; x += dx) {
+            int cell = rowStart + x;
+            if (!space.isPassable(cell)) {
+                return NONE;
+            }
+            if (space.isGoal(cell) || isForced(x, y, dx, 1) || isForced(x, y, dx, -1)) {
+                return cell;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * scans vertically from (x, y) and returns the first jump point: a goal, or a
+     * cell from which a horizontal jump finds one. returns NONE when the column is blocked first.
+     */
+    private int jumpVertical(int x, int y, int dy) {
+        for (y += dy; y >= 0 && y < height; y += dy) {
+            int cell = y * width + x;
+            if (!space.isPassable(cell)) {
+                return NONE;
+            }
+            if (space.isGoal(cell) || jumpHorizontal(x, y, 1) != NONE || jumpHorizontal(x, y, -1) != NONE) {
+                return cell;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * checks whether a horizontal run arriving at (x, y) must turn towards dy here:
+     * the cell beside it is open but the one diagonally behind is blocked.
+     */
+    private boolean isForced(int x, int y, int dx, int dy) {
+        int sideY = y + dy;
+        if (sideY < 0 || sideY >= height) {
+            return false;
+        }
+        int side = sideY * width;
+        return space.isPassable(side + x) && !space.isPassable(side + x - dx);
+    }
+
+    /**
+     * offers a jump point reached from current, inserting it or lowering its key.
+     */
+    private void expand(int current, int next, byte direction, int seen) {
+        if (next == NONE) {
+            return;
+        }
+
+        int state = stamp[next];
+        if (state == seen + 1) {
+            return;
+        }
+
+        int distance = Math.abs(next % width - current % width) + Math.abs(next / width - current / width);
+        int tentativeGScore = gScore[current] + distance;
+
+        if (state != seen || tentativeGScore < gScore[next]) {
+            gScore[next] = tentativeGScore;
+            parent[next] = current;
+            arrival[next] = direction;
+
+            if (state == seen) {
+                openSet.decreaseKey(next, tentativeGScore + heuristic(next));
+            } else {
+                stamp[next] = seen;
+                openSet.insert(next, tentativeGScore + heuristic(next));
+            }
+            cellsExplored++;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package model;
+
+/**
+ * an immutable view of what the player sees: the visible layer of every cell,
+ * the player, the score and the hint steps, as published by GameModel after a
+ * change. it can be read from any thread without locking while the model keeps
+ * changing, and it shares all unchanged cells with the snapshots before it.
+ */
+public final class MapSnapshot {
+    private static final Cell[] CELLS = Cell.values();
+
+    private final int width;
+    private final int height;
+    private final byte[][][] cells;
+    private final int playerX;
+    private final int playerY;
+    private final int score;
+    private final int treasuresFound;
+    private final int[] hintCells;
+    private final long sequence;
+
+    MapSnapshot(int width, int height, byte[][][] cells, int playerX, int playerY,
+                int score, int treasuresFound, int[] hintCells, long sequence) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.score = score;
+        this.treasuresFound = treasuresFound;
+        this.hintCells = hintCells;
+        this.sequence = sequence;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * returns the visible cell, as GameModel.getCell did when the snapshot was taken.
+     */
+    public Cell getCell(int x, int y) {
+        return getCell(Coordinates.encode(x, y, width));
+    }
+
+    /**
+     * returns the visible cell at a packed index (see Coordinates).
+     */
+    public Cell getCell(int cell) {
+        return CELLS[CopyOnWriteGrid.get(cells, cell)];
+    }
+
+    public int getPlayerX() {
+        return playerX;
+    }
+
+    public int getPlayerY() {
+        return playerY;
+    }
+
+    public int getPlayerCell() {
+        return Coordinates.encode(playerX, playerY, width);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getTreasuresFound() {
+        return treasuresFound;
+    }
+
+    public int getTreasuresTotal() {
+        return GameModel.NUM_TREASURES;
+    }
+
+    public int getHintCellCount() {
+        return hintCells.length;
+    }
+
+    /**
+     * returns a hint step as a packed index (y * width + x).
+     */
+    public int getHintCell(int i) {
+        return hintCells[i];
+    }
+
+    /**
+     * returns the position of this snapshot in the order the model published them.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+}
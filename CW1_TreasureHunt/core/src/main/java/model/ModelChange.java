@@ -0,0 +1,107 @@
+package model;
+
+/**
+ * one change to what the player sees, delivered to a ModelListener.
+ * cell coordinates are those of the changed cell; a player move also carries the
+ * cell the player left, and a score change the score before and after.
+ */
+public final class ModelChange {
+    public enum Type {
+        PLAYER_MOVED,
+        OBSTACLE_REVEALED,
+        TREASURE_COLLECTED,
+        HINT_SET,
+        HINT_CLEARED,
+        SCORE_CHANGED,
+        // a new map; replaces every earlier change in the batch
+        MAP_RESET
+    }
+
+    private final Type type;
+    private final int x;
+    private final int y;
+    private final int fromX;
+    private final int fromY;
+    private final int previousScore;
+    private final int score;
+
+    private ModelChange(Type type, int x, int y, int fromX, int fromY, int previousScore, int score) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.previousScore = previousScore;
+        this.score = score;
+    }
+
+    static ModelChange playerMoved(int fromX, int fromY, int toX, int toY) {
+        return new ModelChange(Type.PLAYER_MOVED, toX, toY, fromX, fromY, 0, 0);
+    }
+
+    static ModelChange cellChanged(Type type, int x, int y) {
+        return new ModelChange(type, x, y, x, y, 0, 0);
+    }
+
+    static ModelChange scoreChanged(int previousScore, int score) {
+        return new ModelChange(Type.SCORE_CHANGED, -1, -1, -1, -1, previousScore, score);
+    }
+
+    static ModelChange mapReset() {
+        return new ModelChange(Type.MAP_RESET, -1, -1, -1, -1, 0, 0);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * returns the column of the changed cell, or where the player moved to.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * returns the row of the changed cell, or where the player moved to.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * returns the column the player moved from; the same as getX for cell changes.
+     */
+    public int getFromX() {
+        return fromX;
+    }
+
+    /**
+     * returns the row the player moved from; the same as getY for cell changes.
+     */
+    public int getFromY() {
+        return fromY;
+    }
+
+    public int getPreviousScore() {
+        return previousScore;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case PLAYER_MOVED:
+                return type + " (" + fromX + ", " + fromY + ") -> (" + x + ", " + y + ")";
+            case SCORE_CHANGED:
+                return type + " " + previousScore + " -> " + score;
+            case MAP_RESET:
+                return type.toString();
+            default:
+                return type + " (" + x + ", " + y + ")";
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package model;
+
+import java.util.List;
+
+/**
+ * receives the changes a GameModel has made since its last flushChanges, in order.
+ */
+public interface ModelListener {
+    void modelChanged(List<ModelChange> changes);
+}
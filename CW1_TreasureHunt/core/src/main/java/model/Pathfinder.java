@@ -0,0 +1,34 @@
+package model;
+
+/**
+ * a search engine for hint paths. implementations are discovered through
+ * ServiceLoader (see PathfinderRegistry) and need a public no-argument constructor.
+ * an instance keeps its buffers between searches, so it is not thread-safe.
+ */
+public interface Pathfinder {
+    /**
+     * returns the short name shown on the hint button and in the statistics.
+     */
+    String getName();
+
+    /**
+     * returns a longer description of the algorithm.
+     */
+    String getDescription();
+
+    /**
+     * checks whether the search is guided by a heuristic (drawn in the A* style).
+     */
+    boolean isHeuristic();
+
+    /**
+     * searches from start to the nearest goal other than start.
+     * when several goals are equally near, the engine's own expansion order decides
+     * which one the path leads to; the order the space lists its goals in plays no
+     * part, so the choice depends only on the grid, the start and the set of goals.
+     * on success the path (first step to goal), the number of expanded nodes and
+     * the number of heap operations are written to result and true is returned.
+     * a search that sees space.isCancelled() returns false without a path.
+     */
+    boolean findPath(SearchSpace space, int start, SearchResult result);
+}
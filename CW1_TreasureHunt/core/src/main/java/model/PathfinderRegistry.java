@@ -0,0 +1,68 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * the available hint engines, by name, in discovery order.
+ * engines are found with ServiceLoader from META-INF/services/model.Pathfinder,
+ * so an optimized engine can be added by listing it there.
+ */
+public final class PathfinderRegistry {
+    private final Map<String, Pathfinder> pathfinders = new LinkedHashMap<>();
+
+    /**
+     * creates an empty registry.
+     */
+    public PathfinderRegistry() {
+    }
+
+    /**
+     * discovers every Pathfinder visible to the context class loader.
+     * falls back to the built-in engines if no provider configuration is found.
+     */
+    public static PathfinderRegistry load() {
+        PathfinderRegistry registry = new PathfinderRegistry();
+
+        for (Pathfinder pathfinder : ServiceLoader.load(Pathfinder.class)) {
+            registry.register(pathfinder);
+        }
+
+        if (registry.pathfinders.isEmpty()) {
+            registry.register(new BreadthFirstSearch());
+            registry.register(new AStarSearch());
+            registry.register(new JumpPointSearch());
+        }
+
+        return registry;
+    }
+
+    /**
+     * adds an engine; names must be unique.
+     */
+    public void register(Pathfinder pathfinder) {
+        String name = pathfinder.getName();
+        if (pathfinders.containsKey(name)) {
+            throw new IllegalArgumentException("duplicate pathfinder name: " + name);
+        }
+        pathfinders.put(name, pathfinder);
+    }
+
+    /**
+     * returns the engine with the given name, or null if there is none.
+     */
+    public Pathfinder get(String name) {
+        return pathfinders.get(name);
+    }
+
+    /**
+     * returns every registered engine in registration order.
+     */
+    public List<Pathfinder> getPathfinders() {
+        return Collections.unmodifiableList(new ArrayList<>(pathfinders.values()));
+    }
+}
@@ -0,0 +1,61 @@
+package model;
+
+/**
+ * an immutable grid position, kept as an adapter for callers that want objects;
+ * the model itself works on packed cells (see Coordinates).
+ */
+public final class Point {
+    private final int x;
+    private final int y;
+
+    public Point(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * returns the position of a packed cell of a grid of the given width.
+     */
+    public static Point fromCell(int cell, int width) {
+        return new Point(Coordinates.decodeX(cell, width), Coordinates.decodeY(cell, width));
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * returns the packed cell of this position in a grid of the given width.
+     */
+    public int toCell(int width) {
+        return Coordinates.encode(x, y, width);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        Point point = (Point) obj;
+        return x == point.x && y == point.y;
+    }
+
+    /**
+     * mixes both coordinates into every bit of the hash; 31 * x + y gave (x, y) and
+     * (x + 1, y - 31) the same hash, so points on grids wider than 31 collided.
+     */
+    @Override
+    public int hashCode() {
+        long h = (((long) x << 32) | (y & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + x + ", " + y + ")";
+    }
+}
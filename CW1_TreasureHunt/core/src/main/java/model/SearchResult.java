@@ -0,0 +1,134 @@
+package model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * the path and search statistics of one Pathfinder run.
+ * the path buffer is reused, so a result can be passed to every search.
+ * elapsed time and allocated bytes are measured by the caller around findPath,
+ * so they are the same measure for every engine.
+ */
+public final class SearchResult {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private int[] path = new int[16];
+    private int pathLength;
+    private int expandedNodes;
+    private int heapOperations;
+    private long elapsedNanos;
+    private long bytesAllocated;
+
+    // measurement state between begin and end
+    private long startNanos;
+    private long startBytes;
+
+    /**
+     * clears the path and every statistic.
+     */
+    public void reset() {
+        pathLength = 0;
+        expandedNodes = 0;
+        heapOperations = 0;
+        elapsedNanos = 0;
+        bytesAllocated = -1;
+    }
+
+    /**
+     * resets the result and starts measuring time and allocation on the current thread.
+     */
+    public void begin() {
+        reset();
+        startBytes = currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * stops measuring; must run on the thread that called begin.
+     */
+    public void end() {
+        elapsedNanos = System.nanoTime() - startNanos;
+        long endBytes = currentThreadAllocatedBytes();
+        bytesAllocated = startBytes < 0 || endBytes < 0 ? -1 : endBytes - startBytes;
+    }
+
+    /**
+     * returns the bytes allocated so far by the current thread, or -1 if the JVM cannot tell.
+     */
+    private static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * makes this result a copy of another one, path and statistics included.
+     */
+    public void copyFrom(SearchResult other) {
+        System.arraycopy(other.path, 0, pathBuffer(other.pathLength), 0, other.pathLength);
+        expandedNodes = other.expandedNodes;
+        heapOperations = other.heapOperations;
+        elapsedNanos = other.elapsedNanos;
+        bytesAllocated = other.bytesAllocated;
+    }
+
+    /**
+     * sets the path length and returns a buffer of at least that size, to be filled
+     * with the path cells from the first step (index 0) to the goal (index length - 1).
+     */
+    public int[] pathBuffer(int length) {
+        if (path.length < length) {
+            path = new int[Math.max(length, path.length * 2)];
+        }
+        pathLength = length;
+        return path;
+    }
+
+    public void setExpandedNodes(int expandedNodes) {
+        this.expandedNodes = expandedNodes;
+    }
+
+    public void setHeapOperations(int heapOperations) {
+        this.heapOperations = heapOperations;
+    }
+
+    /**
+     * returns the number of steps from the start to the goal.
+     */
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    /**
+     * returns a cell of the path; index 0 is the first step and pathLength - 1 the goal.
+     */
+    public int getPathCell(int index) {
+        if (index < 0 || index >= pathLength) {
+            throw new IndexOutOfBoundsException("path index " + index + " of " + pathLength);
+        }
+        return path[index];
+    }
+
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    public int getHeapOperations() {
+        return heapOperations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * returns the bytes allocated during the search, or -1 if the JVM cannot measure it.
+     */
+    public long getBytesAllocated() {
+        return bytesAllocated;
+    }
+}
@@ -0,0 +1,58 @@
+package model;
+
+/**
+ * a read-only view of a 4-connected, uniform-cost grid for a Pathfinder.
+ * cells are packed indices (y * width + x), and a search runs from a start cell
+ * to the nearest goal cell other than the start.
+ */
+public interface SearchSpace {
+    /**
+     * returned by distanceToGoal when the space keeps no precomputed distances.
+     */
+    int NO_DISTANCE = -1;
+
+    /**
+     * returned by distanceToGoal for a cell that cannot reach any goal.
+     */
+    int UNREACHABLE = Integer.MAX_VALUE;
+
+    int getWidth();
+
+    int getHeight();
+
+    /**
+     * checks whether a cell can be entered.
+     */
+    boolean isPassable(int cell);
+
+    /**
+     * checks whether a cell is a goal.
+     */
+    boolean isGoal(int cell);
+
+    /**
+     * returns the number of goal cells.
+     */
+    int getGoalCount();
+
+    /**
+     * returns a goal cell, in the order the space lists them.
+     */
+    int getGoal(int index);
+
+    /**
+     * returns the distance from a cell to the nearest goal if the space maintains it,
+     * UNREACHABLE if no goal can be reached, or NO_DISTANCE if it is not known.
+     */
+    default int distanceToGoal(int cell) {
+        return NO_DISTANCE;
+    }
+
+    /**
+     * checks whether the search has been called off. engines poll this once per
+     * expansion and give up, reporting no path, when it returns true.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
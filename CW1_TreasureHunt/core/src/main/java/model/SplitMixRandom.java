@@ -0,0 +1,57 @@
+package model;
+
+/**
+ * the SplitMix64 generator behind java.util.SplittableRandom, with the same
+ * output for the same seed, but reseedable in place so a reused GameModel does
+ * not allocate a generator per map. only the draws map generation needs are here.
+ */
+final class SplitMixRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+
+    /**
+     * restarts the sequence that new SplittableRandom(seed) would produce.
+     */
+    void reseed(long seed) {
+        this.seed = seed;
+    }
+
+    long nextLong() {
+        long z = seed += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    int nextInt() {
+        long z = seed += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * returns a uniform int in [0, bound), rejecting draws that would bias the result.
+     */
+    int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+            // rejected: u fell in the incomplete last block of bound values
+        }
+        return r;
+    }
+
+    /**
+     * returns a uniform double in [0, 1).
+     */
+    double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
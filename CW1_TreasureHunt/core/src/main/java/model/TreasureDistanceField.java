@@ -0,0 +1,240 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * distance from every cell to the nearest remaining treasure, through any cell
+ * that is not an obstacle. built once with a multi-source BFS from all treasures,
+ * then repaired locally when a treasure is collected, so a hint only has to read
+ * the cells along its path.
+ */
+class TreasureDistanceField {
+    static final int UNREACHABLE = SearchSpace.UNREACHABLE;
+
+    private final BitGrid obstacles;
+    private final int width;
+    private final int height;
+    private final int[] distance;
+
+    // reusable scratch buffers for building and repairing
+    private final int[] queue;
+    private final int[] mark;
+    private int generation;
+    private long[] seeds = new long[64];
+
+    TreasureDistanceField(BitGrid obstacles, int width, int height) {
+        this.obstacles = obstacles;
+        this.width = width;
+        this.height = height;
+
+        int size = width * height;
+        distance = new int[size];
+        queue = new int[size];
+        mark = new int[size];
+    }
+
+    /**
+     * recomputes the whole field from the given treasure cells.
+     */
+    void build(int[] treasures, int treasureCount) {
+        Arrays.fill(distance, UNREACHABLE);
+
+        int tail = 0;
+        for (int i = 0; i < treasureCount; i++) {
+            distance[treasures[i]] = 0;
+            queue[tail++] = treasures[i];
+        }
+
+        propagate(0, tail, 0, -1);
+    }
+
+    /**
+     * repairs the field after a treasure stops being a source.
+     * only cells whose every shortest route led to that treasure are recomputed.
+     */
+    void removeSource(int treasure) {
+        int stamp = nextGeneration();
+
+        // collect the affected region in order of increasing distance
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = treasure;
+        mark[treasure] = stamp;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current % width;
+            int y = current / width;
+            int next = distance[current] + 1;
+
+            if (y + 1 < height) tail = collect(current + width, next, stamp, tail);
+            if (x + 1 < width) tail = collect(current + 1, next, stamp, tail);
+            if (y > 0) tail = collect(current - width, next, stamp, tail);
+            if (x > 0) tail = collect(current - 1, next, stamp, tail);
+        }
+
+        int affected = tail;
+        for (int i = 0; i < affected; i++) {
+            distance[queue[i]] = UNREACHABLE;
+        }
+
+        // seed each affected cell from its best unaffected neighbour
+        int seedCount = 0;
+        for (int i = 0; i < affected; i++) {
+            int cell = queue[i];
+            int best = bestOutsideNeighbour(cell, stamp);
+            if (best != UNREACHABLE) {
+                if (seedCount == seeds.length) {
+                    seeds = Arrays.copyOf(seeds, seedCount * 2);
+                }
+                seeds[seedCount++] = ((long) (best + 1) << 32) | cell;
+            }
+        }
+        sortSeeds(seedCount);
+
+        propagate(0, 0, seedCount, stamp);
+    }
+
+    /**
+     * sorts the first count seeds in place with a heapsort. Arrays.sort would do, but
+     * on long[] it allocates a run table for partly ordered input, which repairs
+     * often are, and a pooled model must play a game without allocating.
+     */
+    private void sortSeeds(int count) {
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(i, count);
+        }
+        for (int end = count - 1; end > 0; end--) {
+            long largest = seeds[0];
+            seeds[0] = seeds[end];
+            seeds[end] = largest;
+            siftDown(0, end);
+        }
+    }
+
+    private void siftDown(int i, int count) {
+        long value = seeds[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && seeds[child + 1] > seeds[child]) {
+                child++;
+            }
+            if (seeds[child] <= value) {
+                break;
+            }
+            seeds[i] = seeds[child];
+            i = child;
+        }
+        seeds[i] = value;
+    }
+
+    /**
+     * adds a cell to the affected region if its distance came only through affected cells.
+     */
+    private int collect(int cell, int expected, int stamp, int tail) {
+        if (mark[cell] != stamp && distance[cell] == expected && !hasOtherSupport(cell, stamp)) {
+            mark[cell] = stamp;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * checks whether a cell has a neighbour one step closer that is not affected.
+     * every affected cell one step closer is already marked, because the region is
+     * collected in order of increasing distance.
+     */
+    private boolean hasOtherSupport(int cell, int stamp) {
+        int x = cell % width;
+        int y = cell / width;
+        int closer = distance[cell] - 1;
+
+        return (y + 1 < height && supports(cell + width, closer, stamp))
+                || (x + 1 < width && supports(cell + 1, closer, stamp))
+                || (y > 0 && supports(cell - width, closer, stamp))
+                || (x > 0 && supports(cell - 1, closer, stamp));
+    }
+
+    private boolean supports(int neighbour, int closer, int stamp) {
+        return mark[neighbour] != stamp && distance[neighbour] == closer;
+    }
+
+    /**
+     * returns the smallest distance among neighbours outside the affected region.
+     */
+    private int bestOutsideNeighbour(int cell, int stamp) {
+        int x = cell % width;
+        int y = cell / width;
+        int best = UNREACHABLE;
+
+        if (y + 1 < height && mark[cell + width] != stamp) best = Math.min(best, distance[cell + width]);
+        if (x + 1 < width && mark[cell + 1] != stamp) best = Math.min(best, distance[cell + 1]);
+        if (y > 0 && mark[cell - width] != stamp) best = Math.min(best, distance[cell - width]);
+        if (x > 0 && mark[cell - 1] != stamp) best = Math.min(best, distance[cell - 1]);
+
+        return best;
+    }
+
+    /**
+     * runs a BFS from the queued cells and the sorted seeds, always taking the lower
+     * distance first (seeds on ties), so every cell is settled exactly once.
+     * when region is not -1 only cells marked with it are updated.
+     */
+    private void propagate(int head, int tail, int seedCount, int region) {
+        int seed = 0;
+
+        while (head < tail || seed < seedCount) {
+            int current;
+            if (seed < seedCount && (head == tail || (int) (seeds[seed] >>> 32) <= distance[queue[head]])) {
+                current = (int) seeds[seed];
+                int seedDistance = (int) (seeds[seed++] >>> 32);
+                if (seedDistance >= distance[current]) {
+                    continue;
+                }
+                distance[current] = seedDistance;
+            } else {
+                current = queue[head++];
+            }
+
+            int x = current % width;
+            int y = current / width;
+            int next = distance[current] + 1;
+
+            if (y + 1 < height) tail = relax(current + width, next, region, tail);
+            if (x + 1 < width) tail = relax(current + 1, next, region, tail);
+            if (y > 0) tail = relax(current - width, next, region, tail);
+            if (x > 0) tail = relax(current - 1, next, region, tail);
+        }
+    }
+
+    private int relax(int cell, int next, int region, int tail) {
+        if (next < distance[cell] && (region == -1 || mark[cell] == region)
+                && !obstacles.get(cell)) {
+            distance[cell] = next;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * returns the distance from a cell to the nearest treasure, or UNREACHABLE.
+     */
+    int distanceAt(int cell) {
+        return distance[cell];
+    }
+
+    /**
+     * advances the region stamp, clearing the buffer only when the counter wraps.
+     */
+    private int nextGeneration() {
+        generation++;
+        if (generation <= 0) {
+            Arrays.fill(mark, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+}
@@ -0,0 +1,114 @@
+package server;
+
+import model.GameModel;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * serves one client socket: reads command lines into a fixed buffer, runs them on
+ * the connection's Session and writes the replies. replies are only flushed once
+ * every command already received has been answered, so a client that pipelines
+ * commands gets its replies in a few large writes rather than one per line.
+ * a line longer than MAX_LINE bytes, counting its line break, ends the connection,
+ * which bounds the buffers a session needs along with its map.
+ */
+class Connection implements Runnable {
+    static final int MAX_LINE = 256;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final GameServer server;
+    private final Socket socket;
+
+    private final byte[] input = new byte[BUFFER_SIZE];
+    private int inputStart;
+    private int inputEnd;
+    private final StringBuilder reply = new StringBuilder(64);
+
+    Connection(GameServer server, Socket socket) {
+        this.server = server;
+        this.socket = socket;
+    }
+
+    @Override
+    public void run() {
+        GameModel model = null;
+        try (Socket s = socket) {
+            model = server.acquireModel();
+            Session session = new Session(model);
+            InputStream in = s.getInputStream();
+            OutputStream out = new BufferedOutputStream(s.getOutputStream(), BUFFER_SIZE);
+
+            while (!session.isClosed()) {
+                String line = readLine(in);
+                if (line == null) {
+                    break;
+                }
+                reply.setLength(0);
+                session.handle(line, reply);
+                writeReply(out);
+                server.countCommand();
+
+                if (inputStart == inputEnd) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (SocketTimeoutException e) {
+            // idle for too long; the session is dropped
+        } catch (IOException e) {
+            // the client went away
+        } finally {
+            server.sessionClosed(model);
+        }
+    }
+
+    /**
+     * returns the next line without its line break, or null at the end of the
+     * stream or when the line, counting its line break, is longer than MAX_LINE.
+     */
+    private String readLine(InputStream in) throws IOException {
+        int scanned = inputStart;
+        while (true) {
+            for (int i = scanned; i < inputEnd; i++) {
+                if (input[i] == '\n') {
+                    if (i - inputStart >= MAX_LINE) {
+                        return null;
+                    }
+                    int end = i > inputStart && input[i - 1] == '\r' ? i - 1 : i;
+                    String line = new String(input, inputStart, end - inputStart, StandardCharsets.US_ASCII);
+                    inputStart = i + 1;
+                    return line;
+                }
+            }
+            if (inputEnd - inputStart >= MAX_LINE) {
+                return null;
+            }
+
+            // make room at the end of the buffer, then wait for more input
+            if (inputEnd == input.length) {
+                System.arraycopy(input, inputStart, input, 0, inputEnd - inputStart);
+                inputEnd -= inputStart;
+                inputStart = 0;
+            }
+            scanned = inputEnd;
+            int read = in.read(input, inputEnd, input.length - inputEnd);
+            if (read < 0) {
+                return null;
+            }
+            inputEnd += read;
+        }
+    }
+
+    private void writeReply(OutputStream out) throws IOException {
+        for (int i = 0; i < reply.length(); i++) {
+            out.write(reply.charAt(i));
+        }
+        out.write('\n');
+    }
+}
@@ -0,0 +1,228 @@
+package server;
+
+import model.GameModel;
+import model.GameModelPool;
+import model.GameRules;
+import simulation.CommandLineOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * a headless server hosting many independent games over TCP, one Session per
+ * connection, speaking the line protocol described on Session. every connection
+ * is served by its own thread: a virtual thread where the JVM has them, otherwise
+ * a daemon platform thread with a small stack. each session's memory is bounded
+ * by the map size, which the server fixes for all of them, and by the line limit
+ * of Connection; the models of closed sessions are pooled for the next ones.
+ * the number of sessions is capped by maxSessions, and sessions idle for longer
+ * than the idle timeout are dropped.
+ */
+public class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7777;
+    // largest map a session may hold
+    public static final int MAX_SIZE = 256;
+
+    // stack for platform session threads; serving a command needs little
+    private static final long SESSION_STACK_SIZE = 256 * 1024;
+    // models of closed sessions kept for new ones
+    private static final int MAX_IDLE_MODELS = 1024;
+
+    private final GameModelPool models;
+    private final int maxSessions;
+    private final int idleMillis;
+    private final ThreadFactory sessionThreads = sessionThreadFactory();
+
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final LongAdder commands = new LongAdder();
+
+    /**
+     * creates a server whose sessions play size x size maps of the given density.
+     * an idle timeout of zero keeps idle sessions forever.
+     */
+    public GameServer(int size, double density, int maxSessions, int idleMillis) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("map size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be positive: " + maxSessions);
+        }
+        this.models = new GameModelPool(size, size, density, GameRules.DEFAULT, Math.min(maxSessions, MAX_IDLE_MODELS));
+        // building the first model here rejects a map size or density no session could play
+        models.release(models.acquire(0));
+        this.maxSessions = maxSessions;
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * binds to the given address and port (0 picks a free port) and starts accepting
+     * connections. returns the port bound.
+     */
+    public int start(InetAddress address, int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(address, port), 1024);
+
+        acceptThread = new Thread(this::acceptLoop, "game-server-accept");
+        acceptThread.start();
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * stops accepting connections; sessions already open run until their clients leave.
+     */
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    /**
+     * returns the number of commands answered since the server started.
+     */
+    public long getCommandCount() {
+        return commands.sum();
+    }
+
+    void countCommand() {
+        commands.increment();
+    }
+
+    /**
+     * returns a model on a new random map for a session that is starting.
+     */
+    GameModel acquireModel() {
+        return models.acquire(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * ends a session, returning its model to the pool; model is null if the session
+     * never got one.
+     */
+    void sessionClosed(GameModel model) {
+        if (model != null) {
+            models.release(model);
+        }
+        sessions.decrementAndGet();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                // closed
+                return;
+            } catch (IOException e) {
+                continue;
+            }
+
+            try {
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(idleMillis);
+                if (sessions.incrementAndGet() > maxSessions) {
+                    sessions.decrementAndGet();
+                    refuse(socket);
+                    continue;
+                }
+            } catch (IOException e) {
+                closeQuietly(socket);
+                continue;
+            }
+
+            sessionThreads.newThread(new Connection(this, socket)).start();
+        }
+    }
+
+    private static void refuse(Socket socket) {
+        try (Socket s = socket) {
+            OutputStream out = s.getOutputStream();
+            out.write("ERR server full\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        } catch (IOException e) {
+            // nothing more to tell the client
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already gone
+        }
+    }
+
+    /**
+     * returns a factory for virtual threads when the JVM provides them (Java 21 and
+     * later), otherwise one for daemon platform threads with a small stack.
+     */
+    static ThreadFactory sessionThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Object named = Class.forName("java.lang.Thread$Builder")
+                    .getMethod("name", String.class, long.class).invoke(builder, "session-", 0L);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(named);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(null, runnable, "session-" + count.getAndIncrement(), SESSION_STACK_SIZE);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * runs a server until the process is stopped, e.g.
+     * --port 7777 --size 20 --max-sessions 20000 --idle-seconds 300,
+     * printing the open sessions and commands per second every few seconds.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+
+        InetAddress address = InetAddress.getByName(options.getOrDefault("bind", "127.0.0.1"));
+        int port = Integer.parseInt(options.getOrDefault("port", String.valueOf(DEFAULT_PORT)));
+        int size = Integer.parseInt(options.getOrDefault("size", String.valueOf(GameModel.GRID_SIZE)));
+        double density = Double.parseDouble(options.getOrDefault("density", String.valueOf(GameModel.DEFAULT_DENSITY)));
+        int maxSessions = Integer.parseInt(options.getOrDefault("max-sessions", "20000"));
+        int idleSeconds = Integer.parseInt(options.getOrDefault("idle-seconds", "300"));
+        int reportSeconds = Integer.parseInt(options.getOrDefault("report-seconds", "5"));
+
+        GameServer server = new GameServer(size, density, maxSessions, idleSeconds * 1000);
+        int bound = server.start(address, port);
+        System.out.printf(Locale.ROOT, "serving %dx%d games on %s:%d, at most %d sessions%n",
+                size, size, address.getHostAddress(), bound, maxSessions);
+
+        long lastCommands = 0;
+        long lastNanos = System.nanoTime();
+        while (true) {
+            Thread.sleep(reportSeconds * 1000L);
+            long now = System.nanoTime();
+            long total = server.getCommandCount();
+            System.out.printf(Locale.ROOT, "%d sessions, %.0f commands/s%n",
+                    server.getSessionCount(), (total - lastCommands) / ((now - lastNanos) / 1e9));
+            lastCommands = total;
+            lastNanos = now;
+        }
+    }
+}
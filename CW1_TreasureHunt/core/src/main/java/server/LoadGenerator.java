@@ -0,0 +1,266 @@
+package server;
+
+import simulation.CommandLineOptions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * a load generator for GameServer, e.g.
+ * --host 127.0.0.1 --port 7777 --sessions 10000 --seconds 10 --workers 4 --pipeline 8.
+ * it opens the given number of sessions and shares them between a few worker
+ * threads. in each round a worker sends every one of its sessions pipeline
+ * commands (random moves, a hint every --hint-every commands if set, and a reset
+ * once a game is over) and then reads all the replies, so many sessions are kept
+ * busy without a client thread per session. prints the commands answered per
+ * second and how they were answered. a session the server refuses or that fails
+ * is closed and counted, and the worker carries on with its other sessions.
+ */
+public class LoadGenerator {
+    private static final String[] MOVES = {"MOVE UP\n", "MOVE DOWN\n", "MOVE LEFT\n", "MOVE RIGHT\n"};
+
+    private final String host;
+    private final int port;
+    private final int pipeline;
+    private final int hintEvery;
+
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder hints = new LongAdder();
+    private final LongAdder hintsRefused = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder gameOver = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+    // sessions that could not connect or were lost, and the last reason why
+    private final LongAdder failed = new LongAdder();
+    private volatile IOException lastFailure;
+
+    /**
+     * one open session and where its game stands.
+     */
+    private static final class Client {
+        final Socket socket;
+        final InputStream in;
+        final OutputStream out;
+        boolean over;
+        long commandsSent;
+
+        Client(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream(), 4096);
+            this.out = new BufferedOutputStream(socket.getOutputStream(), 4096);
+        }
+    }
+
+    public LoadGenerator(String host, int port, int pipeline, int hintEvery) {
+        this.host = host;
+        this.port = port;
+        this.pipeline = pipeline;
+        this.hintEvery = hintEvery;
+    }
+
+    /**
+     * connects the given number of sessions, runs them for the given time on the
+     * given number of workers and returns the number of commands answered.
+     */
+    public long run(int sessions, int workers, long seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            int share = sessions / workers + (w < sessions % workers ? 1 : 0);
+            long seed = w;
+            Thread thread = new Thread(() -> work(share, seed, deadline), "load-" + w);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return getCommands();
+    }
+
+    public long getCommands() {
+        return moves.sum() + hints.sum() + hintsRefused.sum() + resets.sum() + gameOver.sum() + errors.sum();
+    }
+
+    private void work(int sessions, long seed, long deadline) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Client> clients = new ArrayList<>(sessions);
+        try {
+            for (int i = 0; i < sessions; i++) {
+                Client client = connect();
+                if (client != null) {
+                    clients.add(client);
+                }
+            }
+
+            while (System.nanoTime() < deadline && !clients.isEmpty()) {
+                for (Client client : clients) {
+                    try {
+                        sendRound(client, random);
+                    } catch (IOException e) {
+                        // reading the round tells a refused session from a lost one
+                    }
+                }
+                for (int i = clients.size() - 1; i >= 0; i--) {
+                    Client client = clients.get(i);
+                    try {
+                        if (readRound(client)) {
+                            continue;
+                        }
+                        refused.increment();
+                    } catch (IOException e) {
+                        fail(e);
+                    }
+                    close(clients.remove(i));
+                }
+            }
+        } finally {
+            for (Client client : clients) {
+                close(client);
+            }
+        }
+    }
+
+    /**
+     * opens a session, returning null if the connection failed.
+     */
+    private Client connect() {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(host, port));
+            return new Client(socket);
+        } catch (IOException e) {
+            fail(e);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // never opened
+            }
+            return null;
+        }
+    }
+
+    private void fail(IOException e) {
+        failed.increment();
+        lastFailure = e;
+    }
+
+    private static void close(Client client) {
+        try {
+            client.socket.close();
+        } catch (IOException e) {
+            // closing anyway
+        }
+    }
+
+    private void sendRound(Client client, SplittableRandom random) throws IOException {
+        for (int i = 0; i < pipeline; i++) {
+            String command;
+            if (client.over && i == 0) {
+                command = "RESET\n";
+            } else if (hintEvery > 0 && client.commandsSent % hintEvery == hintEvery - 1) {
+                command = "HINT\n";
+            } else {
+                command = MOVES[random.nextInt(MOVES.length)];
+            }
+            client.out.write(command.getBytes(StandardCharsets.US_ASCII));
+            client.commandsSent++;
+        }
+        client.out.flush();
+    }
+
+    /**
+     * reads the replies to a round, returning false if the server refused the session.
+     */
+    private boolean readRound(Client client) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < pipeline; i++) {
+            line.setLength(0);
+            readLine(client.in, line);
+
+            if (startsWith(line, "OK ")) {
+                // a reset is the first command of a round that follows a finished game
+                if (i == 0 && client.over) {
+                    resets.increment();
+                } else {
+                    moves.increment();
+                }
+                client.over = !endsWith(line, "PLAYING");
+            } else if (startsWith(line, "HINT ")) {
+                hints.increment();
+            } else if (startsWith(line, "ERR hint costs")) {
+                hintsRefused.increment();
+            } else if (startsWith(line, "ERR game over")) {
+                gameOver.increment();
+                client.over = true;
+            } else if (startsWith(line, "ERR server full")) {
+                return false;
+            } else {
+                errors.increment();
+            }
+        }
+        return true;
+    }
+
+    private static void readLine(InputStream in, StringBuilder line) throws IOException {
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException("server closed the session");
+            }
+            line.append((char) b);
+        }
+    }
+
+    private static boolean startsWith(StringBuilder line, String prefix) {
+        return line.length() >= prefix.length() && line.substring(0, prefix.length()).equals(prefix);
+    }
+
+    private static boolean endsWith(StringBuilder line, String suffix) {
+        return line.length() >= suffix.length() && line.substring(line.length() - suffix.length()).equals(suffix);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+
+        String host = options.getOrDefault("host", "127.0.0.1");
+        int port = Integer.parseInt(options.getOrDefault("port", String.valueOf(GameServer.DEFAULT_PORT)));
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "1000"));
+        int workers = Integer.parseInt(options.getOrDefault("workers", "4"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "10"));
+        int pipeline = Integer.parseInt(options.getOrDefault("pipeline", "8"));
+        int hintEvery = Integer.parseInt(options.getOrDefault("hint-every", "0"));
+
+        LoadGenerator generator = new LoadGenerator(host, port, pipeline, hintEvery);
+        long start = System.nanoTime();
+        long commands = generator.run(sessions, workers, seconds);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "%d sessions, %d workers, pipeline %d, %.1f s%n",
+                sessions, workers, pipeline, elapsed);
+        System.out.printf(Locale.ROOT, "%d commands, %.0f commands/s, %.0f moves/s%n",
+                commands, commands / elapsed, generator.moves.sum() / elapsed);
+        System.out.printf(Locale.ROOT,
+                "moves %d, hints %d, unaffordable hints %d, resets %d, after game over %d, errors %d, refused %d, failed %d%n",
+                generator.moves.sum(), generator.hints.sum(), generator.hintsRefused.sum(), generator.resets.sum(),
+                generator.gameOver.sum(), generator.errors.sum(), generator.refused.sum(), generator.failed.sum());
+        if (generator.lastFailure != null) {
+            System.out.println("last failure: " + generator.lastFailure);
+        }
+    }
+}
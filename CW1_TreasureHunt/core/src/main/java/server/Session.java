@@ -0,0 +1,189 @@
+package server;
+
+import model.AStarSearch;
+import model.BreadthFirstSearch;
+import model.Cell;
+import model.Coordinates;
+import model.Direction;
+import model.GameModel;
+import model.JumpPointSearch;
+import model.Pathfinder;
+import model.SearchResult;
+
+import java.util.Locale;
+
+/**
+ * one client's game, driven by the text commands of the server protocol.
+ * a session uses a single GameModel of the size the server allows, borrowed from
+ * the server's pool, and at most one hint engine, so its memory is fixed by the
+ * map size however long it runs.
+ * sessions are not thread-safe; each is used by the thread serving its connection.
+ *
+ * commands, one per line, case-insensitive:
+ *   MOVE UP|DOWN|LEFT|RIGHT   ->  OK x y score found total PLAYING|WON|LOST
+ *   HINT [BFS|A*|JPS]         ->  HINT x y length score, or HINT NONE score
+ *   RESET [seed]              ->  OK ...
+ *   STATE                     ->  STATE width height x y score found total status cells
+ *   QUIT                      ->  BYE
+ * cells is the visible map row by row: . unknown or empty, # obstacle, T treasure,
+ * P player, * hint step. a bad command is answered with ERR and a reason, as is
+ * a hint the score cannot pay for, which the desktop game refuses the same way.
+ */
+class Session {
+    private static final char[] CELL_CHARS = {'.', '#', 'P', 'T', '*'};
+
+    private final GameModel model;
+    private Pathfinder pathfinder;
+    private boolean closed;
+
+    Session(GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * whether the client asked to end the session.
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * runs one command line and appends its reply, without the line break, to out.
+     */
+    void handle(String line, StringBuilder out) {
+        String command = line.trim();
+        String argument = "";
+        int space = command.indexOf(' ');
+        if (space >= 0) {
+            argument = command.substring(space + 1).trim();
+            command = command.substring(0, space);
+        }
+
+        switch (command.toUpperCase(Locale.ROOT)) {
+            case "MOVE":
+                move(argument, out);
+                break;
+            case "HINT":
+                hint(argument, out);
+                break;
+            case "RESET":
+                reset(argument, out);
+                break;
+            case "STATE":
+                state(out);
+                break;
+            case "QUIT":
+                closed = true;
+                out.append("BYE");
+                break;
+            default:
+                out.append("ERR unknown command");
+                break;
+        }
+    }
+
+    private void move(String argument, StringBuilder out) {
+        Direction direction;
+        try {
+            direction = Direction.valueOf(argument.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            out.append("ERR expected MOVE UP, DOWN, LEFT or RIGHT");
+            return;
+        }
+        if (model.isGameOver()) {
+            out.append("ERR game over");
+            return;
+        }
+        model.movePlayer(direction);
+        status(out);
+    }
+
+    private void hint(String argument, StringBuilder out) {
+        if (!argument.isEmpty() && !selectPathfinder(argument)) {
+            out.append("ERR expected HINT BFS, A* or JPS");
+            return;
+        }
+        if (model.isGameOver()) {
+            out.append("ERR game over");
+            return;
+        }
+        if (model.getScore() < model.getRules().getHintCost()) {
+            out.append("ERR hint costs ").append(model.getRules().getHintCost());
+            return;
+        }
+        if (pathfinder == null) {
+            pathfinder = new AStarSearch();
+        }
+
+        if (model.showHint(pathfinder)) {
+            SearchResult search = model.getLastSearch();
+            int next = search.getPathCell(0);
+            out.append("HINT ").append(Coordinates.decodeX(next, model.getWidth()))
+                    .append(' ').append(Coordinates.decodeY(next, model.getWidth()))
+                    .append(' ').append(search.getPathLength()).append(' ').append(model.getScore());
+        } else {
+            out.append("HINT NONE ").append(model.getScore());
+        }
+    }
+
+    /**
+     * keeps the current engine if it has the given name, otherwise replaces it,
+     * so a session never holds the buffers of more than one.
+     */
+    private boolean selectPathfinder(String name) {
+        if (pathfinder != null && pathfinder.getName().equalsIgnoreCase(name)) {
+            return true;
+        }
+        switch (name.toUpperCase(Locale.ROOT)) {
+            case "BFS":
+                pathfinder = new BreadthFirstSearch();
+                return true;
+            case "A*":
+                pathfinder = new AStarSearch();
+                return true;
+            case "JPS":
+                pathfinder = new JumpPointSearch();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void reset(String argument, StringBuilder out) {
+        if (argument.isEmpty()) {
+            model.resetGame();
+        } else {
+            try {
+                model.resetGame(Long.parseLong(argument));
+            } catch (NumberFormatException e) {
+                out.append("ERR expected RESET or RESET seed");
+                return;
+            }
+        }
+        status(out);
+    }
+
+    private void state(StringBuilder out) {
+        out.append("STATE ").append(model.getWidth()).append(' ').append(model.getHeight()).append(' ');
+        appendStatus(out);
+        out.append(' ');
+        for (int y = 0; y < model.getHeight(); y++) {
+            for (int x = 0; x < model.getWidth(); x++) {
+                Cell cell = model.getCell(x, y);
+                out.append(CELL_CHARS[cell.ordinal()]);
+            }
+        }
+    }
+
+    private void status(StringBuilder out) {
+        out.append("OK ");
+        appendStatus(out);
+    }
+
+    private void appendStatus(StringBuilder out) {
+        out.append(model.getPlayerX()).append(' ').append(model.getPlayerY())
+                .append(' ').append(model.getScore())
+                .append(' ').append(model.getTreasuresFound()).append(' ').append(model.getTreasuresTotal())
+                .append(' ').append(model.allTreasuresFound() ? "WON" : model.isGameOver() ? "LOST" : "PLAYING");
+    }
+}
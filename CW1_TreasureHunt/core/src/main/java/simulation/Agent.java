@@ -0,0 +1,29 @@
+package simulation;
+
+import model.Direction;
+import model.GameModel;
+
+/**
+ * a bot that plays a game by choosing one move at a time.
+ * an agent is used by one thread and reused for many games; startGame is called
+ * before each of them.
+ */
+public interface Agent {
+    String getName();
+
+    /**
+     * prepares for a new game on the given model; any randomness the agent uses in
+     * the game comes from the seed, so a game replays the same whatever thread runs it.
+     */
+    void startGame(GameModel model, long seed);
+
+    /**
+     * chooses the next move; the agent may ask the model for a hint first.
+     */
+    Direction nextMove(GameModel model);
+
+    /**
+     * returns how many hints the agent has used in the current game.
+     */
+    int getHintsUsed();
+}
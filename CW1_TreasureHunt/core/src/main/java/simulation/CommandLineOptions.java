@@ -0,0 +1,27 @@
+package simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * the "--name value" options shared by the command-line entry points: Simulator,
+ * GameServer and LoadGenerator.
+ */
+public final class CommandLineOptions {
+    private CommandLineOptions() {
+    }
+
+    /**
+     * reads "--name value" pairs.
+     */
+    public static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("expected --name value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,62 @@
+package simulation;
+
+import model.Direction;
+import model.GameModel;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * explores without hints: it steps onto a neighbour it has not visited yet when
+ * there is one, and otherwise walks randomly, avoiding obstacles it has seen.
+ * visited cells are generation-stamped, so a new game does not clear the buffer.
+ */
+public class GreedyExplorer implements Agent {
+    private SplittableRandom random;
+    private int[] visited = new int[0];
+    private int generation;
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    @Override
+    public void startGame(GameModel model, long seed) {
+        random = new SplittableRandom(seed);
+        int size = model.getWidth() * model.getHeight();
+        if (visited.length != size) {
+            visited = new int[size];
+            generation = 0;
+        }
+        generation++;
+        if (generation <= 0) {
+            Arrays.fill(visited, 0);
+            generation = 1;
+        }
+    }
+
+    @Override
+    public Direction nextMove(GameModel model) {
+        int width = model.getWidth();
+        int player = model.getPlayerCell();
+        visited[player] = generation;
+
+        int first = random.nextInt(Moves.DIRECTIONS.length);
+        for (int i = 0; i < Moves.DIRECTIONS.length; i++) {
+            Direction direction = Moves.DIRECTIONS[(first + i) % Moves.DIRECTIONS.length];
+            if (Moves.isOpen(model, direction)) {
+                int next = player + Moves.dy(direction) * width + Moves.dx(direction);
+                if (visited[next] != generation) {
+                    return direction;
+                }
+            }
+        }
+        return Moves.randomOpen(model, random);
+    }
+
+    @Override
+    public int getHintsUsed() {
+        return 0;
+    }
+}
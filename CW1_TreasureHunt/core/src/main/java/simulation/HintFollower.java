@@ -0,0 +1,48 @@
+package simulation;
+
+import model.Direction;
+import model.GameModel;
+import model.Pathfinder;
+
+import java.util.SplittableRandom;
+
+/**
+ * asks for a hint before every move and takes the step it shows, falling back to
+ * a random open move when no path is found. the engine decides which hint it gets.
+ */
+public class HintFollower implements Agent {
+    private final Pathfinder pathfinder;
+    private SplittableRandom random;
+    private int hintsUsed;
+
+    public HintFollower(Pathfinder pathfinder) {
+        this.pathfinder = pathfinder;
+    }
+
+    @Override
+    public String getName() {
+        return pathfinder.getName() + "-hint";
+    }
+
+    @Override
+    public void startGame(GameModel model, long seed) {
+        random = new SplittableRandom(seed);
+        hintsUsed = 0;
+    }
+
+    @Override
+    public Direction nextMove(GameModel model) {
+        // a hint is only worth it while the step it shows can still be paid for
+        int hintAndStep = model.getRules().getHintCost() + model.getRules().getMoveCost();
+        if (model.getScore() > hintAndStep && model.showHint(pathfinder)) {
+            hintsUsed++;
+            return Moves.towards(model, model.getLastSearch().getPathCell(0));
+        }
+        return Moves.randomOpen(model, random);
+    }
+
+    @Override
+    public int getHintsUsed() {
+        return hintsUsed;
+    }
+}
@@ -0,0 +1,60 @@
+package simulation;
+
+import model.Cell;
+import model.Coordinates;
+import model.Direction;
+import model.GameModel;
+
+import java.util.SplittableRandom;
+
+/**
+ * helpers the agents share for looking at the player's neighbourhood.
+ */
+final class Moves {
+    static final Direction[] DIRECTIONS = Direction.values();
+
+    private Moves() {
+    }
+
+    static int dx(Direction direction) {
+        return direction == Direction.LEFT ? -1 : direction == Direction.RIGHT ? 1 : 0;
+    }
+
+    static int dy(Direction direction) {
+        return direction == Direction.UP ? -1 : direction == Direction.DOWN ? 1 : 0;
+    }
+
+    /**
+     * checks whether a move stays on the map and does not run into an obstacle the player has seen.
+     */
+    static boolean isOpen(GameModel model, Direction direction) {
+        int x = model.getPlayerX() + dx(direction);
+        int y = model.getPlayerY() + dy(direction);
+        return model.isValidPosition(x, y) && model.getCell(x, y) != Cell.OBSTACLE;
+    }
+
+    /**
+     * returns a random move that is open, or any move if the player is boxed in.
+     */
+    static Direction randomOpen(GameModel model, SplittableRandom random) {
+        int first = random.nextInt(DIRECTIONS.length);
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            Direction direction = DIRECTIONS[(first + i) % DIRECTIONS.length];
+            if (isOpen(model, direction)) {
+                return direction;
+            }
+        }
+        return DIRECTIONS[first];
+    }
+
+    /**
+     * returns the move from the player to an adjacent packed cell (y * width + x).
+     */
+    static Direction towards(GameModel model, int cell) {
+        int x = Coordinates.decodeX(cell, model.getWidth());
+        int y = Coordinates.decodeY(cell, model.getWidth());
+        if (x < model.getPlayerX()) return Direction.LEFT;
+        if (x > model.getPlayerX()) return Direction.RIGHT;
+        return y < model.getPlayerY() ? Direction.UP : Direction.DOWN;
+    }
+}
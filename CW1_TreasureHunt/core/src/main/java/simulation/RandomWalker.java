@@ -0,0 +1,33 @@
+package simulation;
+
+import model.Direction;
+import model.GameModel;
+
+import java.util.SplittableRandom;
+
+/**
+ * walks in a random direction each move, never off the map and never into an obstacle it has seen.
+ */
+public class RandomWalker implements Agent {
+    private SplittableRandom random;
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public void startGame(GameModel model, long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Direction nextMove(GameModel model) {
+        return Moves.randomOpen(model, random);
+    }
+
+    @Override
+    public int getHintsUsed() {
+        return 0;
+    }
+}
@@ -0,0 +1,119 @@
+package simulation;
+
+import model.GameModel;
+import model.GameModelPool;
+import model.GameRules;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * plays many seeded games headlessly and aggregates the results.
+ * the games are split into a few batches per worker of a ForkJoinPool; each batch
+ * takes one GameModel from a GameModelPool and creates one agent, and reuses them
+ * for all its games, resetting the model in place to the next seed. game i is
+ * played on the map of seed mix(baseSeed + i) by an agent seeded with
+ * mix(~(baseSeed + i)), so a run gives the same results whatever the parallelism.
+ */
+public class SimulationRunner {
+    // batches per worker, so uneven game lengths still balance across the pool
+    private static final int BATCHES_PER_WORKER = 8;
+
+    // models kept for the next batches once a batch is done
+    private static final int MAX_IDLE_MODELS = 64;
+
+    private final GameRules rules;
+    private final GameModelPool models;
+    private final Supplier<Agent> agents;
+    // games still running after this many moves are stopped and count as timeouts
+    private final int maxMoves;
+
+    /**
+     * creates a runner for maps of the given size and density; agents creates the
+     * agent each batch reuses for its games.
+     */
+    public SimulationRunner(int width, int height, double density, GameRules rules, Supplier<Agent> agents) {
+        this.rules = rules;
+        this.models = new GameModelPool(width, height, density, rules, MAX_IDLE_MODELS);
+        this.agents = agents;
+        this.maxMoves = 10 * rules.getInitialScore();
+    }
+
+    /**
+     * plays games number 0 to games - 1 on the pool and returns their totals.
+     */
+    public SimulationStats run(long games, long baseSeed, ForkJoinPool pool) {
+        long batchSize = Math.max(1, games / ((long) pool.getParallelism() * BATCHES_PER_WORKER));
+        return pool.invoke(new Batch(0, games, batchSize, baseSeed));
+    }
+
+    /**
+     * the seed of a game's map: the SplitMix64 finalizer, so neighbouring game
+     * numbers get unrelated maps.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private final class Batch extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final long batchSize;
+        private final long baseSeed;
+
+        Batch(long from, long to, long batchSize, long baseSeed) {
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+            this.baseSeed = baseSeed;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from > batchSize) {
+                long middle = (from + to) >>> 1;
+                Batch left = new Batch(from, middle, batchSize, baseSeed);
+                left.fork();
+                SimulationStats right = new Batch(middle, to, batchSize, baseSeed).compute();
+                return left.join().merge(right);
+            }
+            return play();
+        }
+
+        private SimulationStats play() {
+            SimulationStats stats = new SimulationStats(rules.getInitialScore());
+            if (from >= to) {
+                return stats;
+            }
+
+            GameModel model = models.acquire(mix(baseSeed + from));
+            Agent agent = agents.get();
+
+            try {
+                for (long game = from; game < to; game++) {
+                    if (game != from) {
+                        model.resetGame(mix(baseSeed + game));
+                    }
+                    agent.startGame(model, mix(~(baseSeed + game)));
+
+                    int moves = 0;
+                    while (!model.isGameOver() && moves < maxMoves) {
+                        model.movePlayer(agent.nextMove(model));
+                        moves++;
+                    }
+
+                    stats.record(model.allTreasuresFound(), !model.isGameOver(), model.getScore(),
+                            moves, agent.getHintsUsed(), model.getTreasuresFound());
+                }
+            } finally {
+                models.release(model);
+            }
+            return stats;
+        }
+    }
+}
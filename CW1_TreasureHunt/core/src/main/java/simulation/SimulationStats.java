@@ -0,0 +1,110 @@
+package simulation;
+
+/**
+ * totals over a number of simulated games. each worker fills its own instance,
+ * and merge combines them. final scores are kept in a histogram from 0 to the
+ * initial score, with every score at or below zero in the first bin.
+ */
+public final class SimulationStats {
+    private final long[] scoreHistogram;
+    private long games;
+    private long wins;
+    private long timeouts;
+    private long scoreSum;
+    private long moves;
+    private long hints;
+    private long treasures;
+
+    public SimulationStats(int initialScore) {
+        scoreHistogram = new long[initialScore + 1];
+    }
+
+    /**
+     * records one finished game; a game cut off at the move limit counts as a timeout.
+     */
+    void record(boolean won, boolean timedOut, int score, int gameMoves, int gameHints, int gameTreasures) {
+        games++;
+        if (won) {
+            wins++;
+        }
+        if (timedOut) {
+            timeouts++;
+        }
+        scoreSum += score;
+        scoreHistogram[Math.max(0, Math.min(scoreHistogram.length - 1, score))]++;
+        moves += gameMoves;
+        hints += gameHints;
+        treasures += gameTreasures;
+    }
+
+    /**
+     * adds another instance's totals to this one and returns this.
+     */
+    SimulationStats merge(SimulationStats other) {
+        for (int i = 0; i < scoreHistogram.length; i++) {
+            scoreHistogram[i] += other.scoreHistogram[i];
+        }
+        games += other.games;
+        wins += other.wins;
+        timeouts += other.timeouts;
+        scoreSum += other.scoreSum;
+        moves += other.moves;
+        hints += other.hints;
+        treasures += other.treasures;
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) scoreSum / games;
+    }
+
+    public double getMeanMoves() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    public double getMeanHints() {
+        return games == 0 ? 0 : (double) hints / games;
+    }
+
+    public double getMeanTreasures() {
+        return games == 0 ? 0 : (double) treasures / games;
+    }
+
+    /**
+     * returns the lowest score that at least the given fraction of games reached or fell below.
+     */
+    public int getScorePercentile(double fraction) {
+        long rank = (long) Math.ceil(fraction * games);
+        long seen = 0;
+        for (int score = 0; score < scoreHistogram.length; score++) {
+            seen += scoreHistogram[score];
+            if (seen >= rank && seen > 0) {
+                return score;
+            }
+        }
+        return scoreHistogram.length - 1;
+    }
+
+    /**
+     * returns how many games ended with the given score, with scores at or below zero counted at 0.
+     */
+    public long getScoreCount(int score) {
+        return scoreHistogram[score];
+    }
+}
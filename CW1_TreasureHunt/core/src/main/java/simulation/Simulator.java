@@ -0,0 +1,89 @@
+package simulation;
+
+import model.AStarSearch;
+import model.BreadthFirstSearch;
+import model.GameModel;
+import model.GameRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * command-line entry point for headless simulations, e.g.
+ * --games 1000000 --size 20 --density -1 --agent all --hint-cost 3.
+ * every option is optional; --agent takes random, greedy, bfs, astar or all, and
+ * --threads defaults to the number of cores. prints one line of results per agent.
+ */
+public class Simulator {
+    public static void main(String[] args) {
+        Map<String, String> options = CommandLineOptions.parse(args);
+
+        long games = Long.parseLong(options.getOrDefault("games", "100000"));
+        int size = Integer.parseInt(options.getOrDefault("size", String.valueOf(GameModel.GRID_SIZE)));
+        double density = Double.parseDouble(options.getOrDefault("density", String.valueOf(GameModel.DEFAULT_DENSITY)));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        GameRules rules = new GameRules(
+                Integer.parseInt(options.getOrDefault("initial-score", String.valueOf(GameRules.DEFAULT.getInitialScore()))),
+                Integer.parseInt(options.getOrDefault("move-cost", String.valueOf(GameRules.DEFAULT.getMoveCost()))),
+                Integer.parseInt(options.getOrDefault("obstacle-penalty", String.valueOf(GameRules.DEFAULT.getObstaclePenalty()))),
+                Integer.parseInt(options.getOrDefault("hint-cost", String.valueOf(GameRules.DEFAULT.getHintCost()))));
+
+        System.out.printf(Locale.ROOT, "%d games per agent on %dx%d maps, density %s, %s, %d threads%n",
+                games, size, size, density == GameModel.DEFAULT_DENSITY ? "default" : String.valueOf(density),
+                rules, threads);
+        System.out.printf(Locale.ROOT, "%-10s %7s %7s %5s %5s %5s %7s %6s %9s %12s%n",
+                "agent", "win%", "score", "p10", "p50", "p90", "moves", "hints", "treasures", "games/h");
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (String agent : agentNames(options.getOrDefault("agent", "all"))) {
+                SimulationRunner runner = new SimulationRunner(size, size, density, rules, agentFactory(agent));
+                long start = System.nanoTime();
+                SimulationStats stats = runner.run(games, seed, pool);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                System.out.printf(Locale.ROOT, "%-10s %6.2f%% %7.2f %5d %5d %5d %7.2f %6.2f %9.3f %12.0f%n",
+                        agent, 100 * stats.getWinRate(), stats.getMeanScore(),
+                        stats.getScorePercentile(0.1), stats.getScorePercentile(0.5), stats.getScorePercentile(0.9),
+                        stats.getMeanMoves(), stats.getMeanHints(), stats.getMeanTreasures(),
+                        stats.getGames() / seconds * 3600);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> agentNames(String agent) {
+        List<String> names = new ArrayList<>();
+        if (agent.equals("all")) {
+            names.add("random");
+            names.add("greedy");
+            names.add("bfs");
+            names.add("astar");
+        } else {
+            names.add(agent);
+        }
+        return names;
+    }
+
+    private static Supplier<Agent> agentFactory(String agent) {
+        switch (agent) {
+            case "random":
+                return RandomWalker::new;
+            case "greedy":
+                return GreedyExplorer::new;
+            case "bfs":
+                return () -> new HintFollower(new BreadthFirstSearch());
+            case "astar":
+                return () -> new HintFollower(new AStarSearch());
+            default:
+                throw new IllegalArgumentException("unknown agent: " + agent);
+        }
+    }
+}
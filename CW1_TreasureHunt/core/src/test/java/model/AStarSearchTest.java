@@ -0,0 +1,41 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A* against a plain breadth-first search on seeded grids: the same path lengths,
+ * and no path exactly when no goal is reachable.
+ */
+class AStarSearchTest {
+    private static final int[][] SIZES = {{1, 30}, {30, 1}, {2, 2}, {9, 7}, {20, 20}, {64, 33}, {101, 80}};
+    private static final double[] DENSITIES = {0, 0.1, 0.25, 0.4, 0.55};
+
+    @Test
+    void pathsMatchBreadthFirstSearch() {
+        SplittableRandom random = new SplittableRandom(13);
+        Pathfinder astar = new AStarSearch();
+        SearchResult result = new SearchResult();
+        int found = 0;
+        int unreachable = 0;
+
+        for (int[] size : SIZES) {
+            for (double density : DENSITIES) {
+                for (int trial = 0; trial < 60; trial++) {
+                    GridSpace space = GridSpace.random(random, size[0], size[1], density, 1 + random.nextInt(4));
+                    String where = size[0] + "x" + size[1] + " density " + density + " trial " + trial;
+                    if (space.assertShortestPath(astar, result, where)) {
+                        found++;
+                    } else {
+                        unreachable++;
+                    }
+                }
+            }
+        }
+        assertTrue(found > 1000, "paths checked: " + found);
+        assertTrue(unreachable > 100, "unreachable maps checked: " + unreachable);
+    }
+}
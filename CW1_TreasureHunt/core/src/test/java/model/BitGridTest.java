@@ -0,0 +1,112 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * the word-parallel flood fill, count and select against a plain breadth-first
+ * search, on widths around word boundaries, and isReachable on generated maps.
+ */
+class BitGridTest {
+    private static final int[][] SIZES = {
+            {1, 1}, {1, 9}, {9, 1}, {63, 3}, {64, 5}, {65, 9}, {127, 13},
+            {128, 2}, {129, 40}, {140, 70}, {1000, 3}, {3, 300}};
+    private static final double[] DENSITIES = {0, 0.1, 0.3, 0.4, 0.6};
+
+    @Test
+    void fillMatchesBreadthFirstSearch() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int[] size : SIZES) {
+            int width = size[0];
+            int height = size[1];
+            for (double density : DENSITIES) {
+                for (int trial = 0; trial < 5; trial++) {
+                    BitGrid blocked = new BitGrid(width, height);
+                    boolean[] obstacle = new boolean[width * height];
+                    for (int cell = 0; cell < obstacle.length; cell++) {
+                        if (random.nextDouble() < density) {
+                            obstacle[cell] = true;
+                            blocked.set(cell);
+                        }
+                    }
+
+                    BitGrid fill = new BitGrid(width, height);
+                    for (int start = 0; start < 4; start++) {
+                        int startCell = random.nextInt(obstacle.length);
+                        fill.fill(blocked, startCell);
+                        String where = width + "x" + height + " density " + density + " from " + startCell;
+
+                        boolean[] reached = reachable(obstacle, width, height, startCell);
+                        int count = 0;
+                        for (int cell = 0; cell < reached.length; cell++) {
+                            assertEquals(reached[cell], fill.get(cell), where + " cell " + cell);
+                            if (reached[cell]) {
+                                assertEquals(cell, fill.select(count), where + " rank " + count);
+                                count++;
+                            }
+                        }
+                        assertEquals(count, fill.count(), where);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void isReachableMatchesBreadthFirstSearch() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (long seed = 0; seed < 200; seed++) {
+            GameModel model = new GameModel(5 + random.nextInt(140), 5 + random.nextInt(70), 0.4, seed);
+            int width = model.getWidth();
+            int height = model.getHeight();
+            boolean[] obstacle = new boolean[width * height];
+            for (int cell = 0; cell < obstacle.length; cell++) {
+                obstacle[cell] = model.isObstacle(cell);
+            }
+
+            for (int query = 0; query < 20; query++) {
+                // alternate starts in the player's region and anywhere on the map
+                int start = query % 2 == 0 ? model.getPlayerCell() : random.nextInt(obstacle.length);
+                boolean[] reached = reachable(obstacle, width, height, start);
+                for (int probe = 0; probe < 20; probe++) {
+                    int end = random.nextInt(obstacle.length);
+                    assertEquals(start == end || reached[end], model.isReachable(start, end),
+                            model.getMapId() + " from " + start + " to " + end);
+                }
+            }
+        }
+    }
+
+    /**
+     * returns the cells reachable from start without crossing an obstacle; none if start is one.
+     */
+    private static boolean[] reachable(boolean[] obstacle, int width, int height, int start) {
+        boolean[] reached = new boolean[obstacle.length];
+        if (obstacle[start]) {
+            return reached;
+        }
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        reached[start] = true;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int x = cell % width;
+            int y = cell / width;
+            int[] neighbours = {
+                    x > 0 ? cell - 1 : -1, x + 1 < width ? cell + 1 : -1,
+                    y > 0 ? cell - width : -1, y + 1 < height ? cell + width : -1};
+            for (int next : neighbours) {
+                if (next >= 0 && !reached[next] && !obstacle[next]) {
+                    reached[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return reached;
+    }
+}
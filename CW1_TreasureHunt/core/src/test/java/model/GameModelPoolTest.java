@@ -0,0 +1,109 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * whole games on pooled models must not allocate once the pool has warmed up:
+ * each game acquires a model, follows A* and BFS hints while it can afford them,
+ * walks randomly otherwise and releases the model, and the thread's allocated
+ * bytes are read around several windows of many games.
+ */
+class GameModelPoolTest {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int[] SIZES = {20, 64};
+    private static final int MAX_MOVES = 1000;
+    private static final int WARMUP_GAMES = 3000;
+    private static final int GAMES = 500;
+    private static final int ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Pathfinder astar = new AStarSearch();
+    private final Pathfinder bfs = new BreadthFirstSearch();
+    private long game;
+
+    @Test
+    void pooledGamesAllocateNothing() {
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        for (int size : SIZES) {
+            GameModelPool pool = new GameModelPool(size, size, GameModel.DEFAULT_DENSITY, GameRules.DEFAULT, 1);
+            playGames(pool, WARMUP_GAMES);
+            long overhead = allocatedBy(pool, 0);
+            // a late recompilation can land in one window; an allocating game shows in all of them
+            long allocated = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                allocated = Math.min(allocated, allocatedBy(pool, GAMES) - overhead);
+            }
+
+            assertEquals(0, allocated, "bytes allocated by " + GAMES + " games on " + size + "x" + size);
+            assertEquals(1, pool.getCreatedCount(), "models created for " + size + "x" + size);
+        }
+    }
+
+    @Test
+    void releaseRejectsModelsOfAnotherShape() {
+        GameModelPool pool = new GameModelPool(20, 20, 0.3, GameRules.DEFAULT, 4);
+        GameModel[] foreign = {
+                new GameModel(21, 20, 0.3, 1),
+                new GameModel(20, 21, 0.3, 1),
+                new GameModel(20, 20, 0.2, 1),
+                new GameModel(20, 20, GameModel.DEFAULT_DENSITY, 1),
+                new GameModel(20, 20, 0.3, 1, new GameRules(GameModel.INITIAL_SCORE, 1, 10, 7))};
+        for (GameModel model : foreign) {
+            assertThrows(IllegalArgumentException.class, () -> pool.release(model), model.getMapId());
+        }
+        assertEquals(0, pool.getIdleCount());
+
+        pool.release(new GameModel(20, 20, 0.3, 1));
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    /**
+     * returns the bytes the current thread allocates while playing the given number of games.
+     */
+    private long allocatedBy(GameModelPool pool, int games) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        playGames(pool, games);
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private void playGames(GameModelPool pool, int games) {
+        for (int i = 0; i < games; i++) {
+            GameModel model = pool.acquire(game);
+            play(model, game++);
+            pool.release(model);
+        }
+    }
+
+    private void play(GameModel model, long random) {
+        Pathfinder pathfinder = random % 2 == 0 ? astar : bfs;
+        int hintCost = model.getRules().getHintCost() + model.getRules().getMoveCost();
+        for (int moves = 0; moves < MAX_MOVES && !model.isGameOver(); moves++) {
+            Direction direction;
+            if (model.getScore() > hintCost && model.showHint(pathfinder)) {
+                direction = towards(model, model.getLastSearch().getPathCell(0));
+            } else {
+                random = random * 6364136223846793005L + 1442695040888963407L;
+                direction = DIRECTIONS[(int) (random >>> 62)];
+            }
+            model.movePlayer(direction);
+        }
+    }
+
+    private static Direction towards(GameModel model, int cell) {
+        int x = cell % model.getWidth();
+        int y = cell / model.getWidth();
+        if (x != model.getPlayerX()) {
+            return x < model.getPlayerX() ? Direction.LEFT : Direction.RIGHT;
+        }
+        return y < model.getPlayerY() ? Direction.UP : Direction.DOWN;
+    }
+}
@@ -0,0 +1,209 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * a plain grid for engine tests: obstacles, a start and a few goals, with the
+ * distances of a reference breadth-first search to check the engines against.
+ */
+final class GridSpace implements SearchSpace {
+    final int width;
+    final int height;
+    final boolean[] blocked;
+    final int start;
+    final int[] goals;
+
+    GridSpace(int width, int height, boolean[] blocked, int start, int... goals) {
+        this.width = width;
+        this.height = height;
+        this.blocked = blocked;
+        this.start = start;
+        this.goals = goals;
+    }
+
+    /**
+     * returns a grid with obstacles of the given density and up to goalCount goals,
+     * all on open cells other than the start; at least one cell must stay open.
+     */
+    static GridSpace random(SplittableRandom random, int width, int height, double density, int goalCount) {
+        boolean[] blocked = new boolean[width * height];
+        for (int cell = 0; cell < blocked.length; cell++) {
+            blocked[cell] = random.nextDouble() < density;
+        }
+        int start = random.nextInt(blocked.length);
+        blocked[start] = false;
+
+        int[] goals = new int[goalCount];
+        int count = 0;
+        for (int attempt = 0; attempt < 100 && count < goalCount; attempt++) {
+            int cell = random.nextInt(blocked.length);
+            if (!blocked[cell] && cell != start && !contains(goals, count, cell)) {
+                goals[count++] = cell;
+            }
+        }
+        return new GridSpace(width, height, blocked, start, Arrays.copyOf(goals, count));
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean isPassable(int cell) {
+        return !blocked[cell];
+    }
+
+    @Override
+    public boolean isGoal(int cell) {
+        return contains(goals, goals.length, cell);
+    }
+
+    @Override
+    public int getGoalCount() {
+        return goals.length;
+    }
+
+    @Override
+    public int getGoal(int index) {
+        return goals[index];
+    }
+
+    /**
+     * returns a view of this grid that also serves the distance to the nearest goal,
+     * the way GameModel does for BFS hints.
+     */
+    SearchSpace withDistanceField() {
+        BitGrid obstacles = new BitGrid(width, height);
+        for (int cell = 0; cell < blocked.length; cell++) {
+            if (blocked[cell]) {
+                obstacles.set(cell);
+            }
+        }
+        TreasureDistanceField field = new TreasureDistanceField(obstacles, width, height);
+        field.build(goals, goals.length);
+
+        GridSpace grid = this;
+        return new SearchSpace() {
+            @Override
+            public int getWidth() {
+                return width;
+            }
+
+            @Override
+            public int getHeight() {
+                return height;
+            }
+
+            @Override
+            public boolean isPassable(int cell) {
+                return grid.isPassable(cell);
+            }
+
+            @Override
+            public boolean isGoal(int cell) {
+                return grid.isGoal(cell);
+            }
+
+            @Override
+            public int getGoalCount() {
+                return goals.length;
+            }
+
+            @Override
+            public int getGoal(int index) {
+                return goals[index];
+            }
+
+            @Override
+            public int distanceToGoal(int cell) {
+                return field.distanceAt(cell);
+            }
+        };
+    }
+
+    /**
+     * returns the steps from the start to every cell, UNREACHABLE where it cannot go.
+     */
+    int[] distancesFromStart() {
+        int[] distance = new int[width * height];
+        Arrays.fill(distance, UNREACHABLE);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        distance[start] = 0;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int x = cell % width;
+            int y = cell / width;
+            int[] neighbours = {
+                    x > 0 ? cell - 1 : -1, x + 1 < width ? cell + 1 : -1,
+                    y > 0 ? cell - width : -1, y + 1 < height ? cell + width : -1};
+            for (int next : neighbours) {
+                if (next >= 0 && distance[next] == UNREACHABLE && !blocked[next]) {
+                    distance[next] = distance[cell] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * returns the steps from the start to the nearest goal, or UNREACHABLE.
+     */
+    int nearestGoalDistance() {
+        int[] distance = distancesFromStart();
+        int best = UNREACHABLE;
+        for (int goal : goals) {
+            best = Math.min(best, distance[goal]);
+        }
+        return best;
+    }
+
+    /**
+     * runs an engine from the start and checks it against the reference search: a path
+     * exactly when a goal is reachable, as short as the nearest one, made of single
+     * steps between open cells and ending on a goal. returns whether a path was found.
+     */
+    boolean assertShortestPath(Pathfinder pathfinder, SearchResult result, String where) {
+        int expected = nearestGoalDistance();
+        boolean found = pathfinder.findPath(this, start, result);
+        assertEquals(expected != UNREACHABLE, found, where);
+        if (!found) {
+            return false;
+        }
+
+        assertEquals(expected, result.getPathLength(), where);
+        int previous = start;
+        for (int i = 0; i < result.getPathLength(); i++) {
+            int cell = result.getPathCell(i);
+            int dx = Math.abs(cell % width - previous % width);
+            int dy = Math.abs(cell / width - previous / width);
+            assertEquals(1, dx + dy, where + " step " + i + " from " + previous + " to " + cell);
+            assertFalse(blocked[cell], where + " step " + i + " onto an obstacle at " + cell);
+            previous = cell;
+        }
+        assertTrue(isGoal(previous), where + " ends on " + previous + ", not a goal");
+        return true;
+    }
+
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * random insertions, key decreases and polls against a java.util.PriorityQueue of
+ * the same keys: every poll must return a cell holding the lowest key, and the
+ * heap must know which cells it holds, also after being cleared and reused.
+ */
+class IndexedMinHeapTest {
+    private static final int CAPACITY = 200;
+
+    @Test
+    void pollsInKeyOrder() {
+        SplittableRandom random = new SplittableRandom(17);
+        IndexedMinHeap heap = new IndexedMinHeap(CAPACITY);
+
+        for (int round = 0; round < 50; round++) {
+            PriorityQueue<Integer> reference = new PriorityQueue<>();
+            int[] key = new int[CAPACITY];
+            boolean[] held = new boolean[CAPACITY];
+            int operations = 0;
+
+            for (int step = 0; step < 2000; step++) {
+                int cell = random.nextInt(CAPACITY);
+                int action = random.nextInt(3);
+                if (action == 0 && !held[cell]) {
+                    key[cell] = random.nextInt(1000);
+                    heap.insert(cell, key[cell]);
+                    reference.add(key[cell]);
+                    held[cell] = true;
+                    operations++;
+                } else if (action == 1 && held[cell] && key[cell] > 0) {
+                    reference.remove(key[cell]);
+                    key[cell] -= 1 + random.nextInt(key[cell]);
+                    heap.decreaseKey(cell, key[cell]);
+                    reference.add(key[cell]);
+                    operations++;
+                } else if (action == 2 && !reference.isEmpty()) {
+                    int polled = heap.poll();
+                    assertTrue(held[polled], "polled a cell not in the heap: " + polled);
+                    assertEquals((int) reference.poll(), key[polled], "round " + round + " step " + step);
+                    held[polled] = false;
+                    operations++;
+                }
+                assertEquals(reference.isEmpty(), heap.isEmpty());
+                assertEquals(held[cell], heap.contains(cell), "cell " + cell);
+            }
+            assertEquals(operations, heap.getOperations());
+
+            heap.clear();
+            assertTrue(heap.isEmpty());
+            assertEquals(0, heap.getOperations());
+            for (int cell = 0; cell < CAPACITY; cell++) {
+                assertFalse(heap.contains(cell), "cell " + cell + " after clear");
+            }
+        }
+    }
+}
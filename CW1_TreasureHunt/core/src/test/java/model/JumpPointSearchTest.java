@@ -0,0 +1,58 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * jump point search against a plain breadth-first search: the same path lengths,
+ * no path exactly when no goal is reachable, and the straight runs between jump
+ * points filled in as single steps.
+ */
+class JumpPointSearchTest {
+    private static final int[][] SIZES = {{1, 30}, {30, 1}, {2, 2}, {9, 7}, {20, 20}, {64, 33}, {101, 80}};
+    private static final double[] DENSITIES = {0, 0.1, 0.25, 0.4, 0.55};
+
+    @Test
+    void pathsMatchBreadthFirstSearch() {
+        SplittableRandom random = new SplittableRandom(11);
+        Pathfinder jps = new JumpPointSearch();
+        SearchResult result = new SearchResult();
+        int found = 0;
+        int unreachable = 0;
+
+        for (int[] size : SIZES) {
+            for (double density : DENSITIES) {
+                for (int trial = 0; trial < 60; trial++) {
+                    GridSpace space = GridSpace.random(random, size[0], size[1], density, 1 + random.nextInt(4));
+                    String where = size[0] + "x" + size[1] + " density " + density + " trial " + trial;
+                    if (space.assertShortestPath(jps, result, where)) {
+                        found++;
+                    } else {
+                        unreachable++;
+                    }
+                }
+            }
+        }
+        assertTrue(found > 1000, "paths checked: " + found);
+        assertTrue(unreachable > 100, "unreachable maps checked: " + unreachable);
+    }
+
+    @Test
+    void noPathWhenEveryGoalIsWalledOff() {
+        // a 7x7 grid with a ring of obstacles around the centre goal
+        int width = 7;
+        boolean[] blocked = new boolean[width * width];
+        for (int y = 2; y <= 4; y++) {
+            for (int x = 2; x <= 4; x++) {
+                blocked[y * width + x] = x != 3 || y != 3;
+            }
+        }
+        GridSpace space = new GridSpace(width, width, blocked, 0, 3 * width + 3);
+
+        assertFalse(space.assertShortestPath(new JumpPointSearch(), new SearchResult(), "walled goal"));
+    }
+}
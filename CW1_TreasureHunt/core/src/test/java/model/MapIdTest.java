@@ -0,0 +1,92 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * seeded maps are reproducible: the same seed gives the same map, whether in a new
+ * model or by resetting one, and a map ID recreates the map it was taken from.
+ */
+class MapIdTest {
+    private static final long[] SEEDS = {0, 1, 42, 20240601, Long.MAX_VALUE, Long.MIN_VALUE, -1, 0x8000_0000_0000_0001L};
+    private static final double[] DENSITIES = {GameModel.DEFAULT_DENSITY, 0, 0.1, 0.35, 0.5};
+
+    @Test
+    void sameSeedGivesSameMap() {
+        for (long seed : SEEDS) {
+            for (double density : DENSITIES) {
+                GameModel first = new GameModel(31, 17, density, seed);
+                GameModel second = new GameModel(31, 17, density, seed);
+                assertSameMap(first, second, first.getMapId());
+
+                // a model reset to the seed after another map gives it too
+                GameModel reused = new GameModel(31, 17, density, seed + 1);
+                reused.resetGame(seed);
+                assertSameMap(first, reused, first.getMapId() + " after reset");
+            }
+        }
+    }
+
+    @Test
+    void mapIdRecreatesTheMap() {
+        for (long seed : SEEDS) {
+            for (double density : DENSITIES) {
+                GameModel model = new GameModel(40, 25, density, seed);
+                String id = model.getMapId();
+                GameModel recreated = GameModel.fromMapId(id);
+
+                assertEquals(id, recreated.getMapId());
+                assertEquals(seed, recreated.getSeed(), id);
+                assertSameMap(model, recreated, id);
+            }
+        }
+    }
+
+    @Test
+    void mapIdFormat() {
+        assertEquals("20x20-0", new GameModel(20, 20, GameModel.DEFAULT_DENSITY, 0).getMapId());
+        assertEquals("20x20-0.3-z", new GameModel(20, 20, 0.3, 35).getMapId());
+        // the seed is unsigned, so a negative one never adds a dash
+        String id = new GameModel(20, 20, GameModel.DEFAULT_DENSITY, -1).getMapId();
+        assertEquals("20x20-" + Long.toUnsignedString(-1, 36), id);
+        assertFalse(id.substring("20x20-".length()).contains("-"), id);
+    }
+
+    @Test
+    void malformedIdsAreRejected() {
+        String[] malformed = {
+                "", "20x20", "20-1", "20x-1", "x20-1", "axb-1", "20x20x3-1", "20x20-0.3-1-2",
+                "20x20-zz!", "20x20--1", "20x20-abc-1", "20x20-0.9-1", "0x20-1", "1x1-1"};
+        for (String id : malformed) {
+            assertThrows(IllegalArgumentException.class, () -> GameModel.fromMapId(id), id);
+        }
+    }
+
+    private static void assertSameMap(GameModel expected, GameModel actual, String where) {
+        assertEquals(expected.getWidth(), actual.getWidth(), where);
+        assertEquals(expected.getHeight(), actual.getHeight(), where);
+        assertEquals(expected.getPlayerCell(), actual.getPlayerCell(), where);
+        assertArrayEquals(obstacles(expected), obstacles(actual), where);
+        assertArrayEquals(treasures(expected), treasures(actual), where);
+    }
+
+    private static boolean[] obstacles(GameModel model) {
+        boolean[] obstacles = new boolean[model.getWidth() * model.getHeight()];
+        for (int cell = 0; cell < obstacles.length; cell++) {
+            obstacles[cell] = model.isObstacle(cell);
+        }
+        return obstacles;
+    }
+
+    private static int[] treasures(GameModel model) {
+        int[] treasures = new int[model.getTreasureCount()];
+        for (int i = 0; i < treasures.length; i++) {
+            treasures[i] = model.getTreasureCell(i);
+        }
+        return treasures;
+    }
+}
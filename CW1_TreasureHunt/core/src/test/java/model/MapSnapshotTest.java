@@ -0,0 +1,74 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * published snapshots against the live model while it keeps changing, and the
+ * older snapshots against what they showed when taken, on maps spanning more than
+ * one page of chunks.
+ */
+class MapSnapshotTest {
+    private static final int[][] SIZES = {{1, 40}, {7, 5}, {64, 64}, {600, 600}, {1000, 300}};
+
+    @Test
+    void snapshotsMatchModelAndNeverChange() {
+        SplittableRandom random = new SplittableRandom(3);
+        Direction[] directions = Direction.values();
+        Pathfinder bfs = new BreadthFirstSearch();
+
+        for (int[] size : SIZES) {
+            GameModel model = new GameModel(size[0], size[1], 0.3, 11, new GameRules(100000, 1, 1, 1));
+            model.publishSnapshot();
+            List<MapSnapshot> kept = new ArrayList<>();
+            List<Cell[]> shown = new ArrayList<>();
+
+            for (int step = 0; step < 200; step++) {
+                int action = random.nextInt(20);
+                if (action == 0) {
+                    model.resetGame(random.nextLong());
+                } else if (action < 4) {
+                    model.showHint(bfs);
+                } else {
+                    model.movePlayer(directions[random.nextInt(directions.length)]);
+                }
+
+                MapSnapshot snapshot = model.getSnapshot();
+                Cell[] cells = visibleCells(model);
+                assertMatches(cells, snapshot, model.getMapId() + " step " + step);
+                assertEquals(model.getPlayerCell(), snapshot.getPlayerCell());
+                assertEquals(model.getScore(), snapshot.getScore());
+                assertEquals(model.getHintCellCount(), snapshot.getHintCellCount());
+                if (step % 20 == 0) {
+                    kept.add(snapshot);
+                    shown.add(cells);
+                }
+            }
+
+            for (int i = 0; i < kept.size(); i++) {
+                assertMatches(shown.get(i), kept.get(i), model.getMapId() + " kept snapshot " + i);
+            }
+        }
+    }
+
+    private static Cell[] visibleCells(GameModel model) {
+        Cell[] cells = new Cell[model.getWidth() * model.getHeight()];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = model.getCell(cell);
+        }
+        return cells;
+    }
+
+    private static void assertMatches(Cell[] cells, MapSnapshot snapshot, String where) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != snapshot.getCell(cell)) {
+                assertEquals(cells[cell], snapshot.getCell(cell), where + " cell " + cell);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * how the engines choose between equally near goals: each engine's own expansion
+ * order decides, and the order the goals are listed in plays no part (see
+ * Pathfinder.findPath).
+ */
+class NearestGoalTieTest {
+    private static final int SIZE = 5;
+    private static final int CENTRE = 2 * SIZE + 2;
+    // two steps up, left, right and down from the centre
+    private static final int[] AROUND = {2, 10, 14, 22};
+
+    @Test
+    void symmetricTiesGoToEachEnginesFirstExpansion() {
+        // BFS (searching or reading the distance field) and JPS go down first, A* left
+        assertEveryListOrderReaches(new BreadthFirstSearch(), false, 22);
+        assertEveryListOrderReaches(new BreadthFirstSearch(), true, 22);
+        assertEveryListOrderReaches(new AStarSearch(), false, 10);
+        assertEveryListOrderReaches(new JumpPointSearch(), false, 22);
+    }
+
+    @Test
+    void goalListOrderDoesNotChangeThePath() {
+        SplittableRandom random = new SplittableRandom(19);
+        Pathfinder[] engines = {new BreadthFirstSearch(), new AStarSearch(), new JumpPointSearch()};
+        int ties = 0;
+
+        while (ties < 300) {
+            GridSpace space = GridSpace.random(random, 3 + random.nextInt(30), 3 + random.nextInt(30),
+                    random.nextDouble() * 0.4, 2 + random.nextInt(3));
+            if (!hasTie(space)) {
+                continue;
+            }
+            ties++;
+
+            int[] reversed = new int[space.goals.length];
+            for (int i = 0; i < reversed.length; i++) {
+                reversed[i] = space.goals[reversed.length - 1 - i];
+            }
+            GridSpace relisted = new GridSpace(space.width, space.height, space.blocked, space.start, reversed);
+
+            for (Pathfinder engine : engines) {
+                String where = engine.getName() + " tie " + ties;
+                assertArrayEquals(path(engine, space), path(engine, relisted), where);
+            }
+            assertArrayEquals(path(engines[0], space.withDistanceField(), space.start),
+                    path(engines[0], relisted.withDistanceField(), space.start), "BFS on the field, tie " + ties);
+        }
+    }
+
+    /**
+     * checks that the engine reaches the expected goal from the centre, whichever way
+     * round the four equally near goals are listed.
+     */
+    private static void assertEveryListOrderReaches(Pathfinder engine, boolean withField, int expected) {
+        List<int[]> orders = permutations(AROUND);
+        for (int[] goals : orders) {
+            GridSpace grid = new GridSpace(SIZE, SIZE, new boolean[SIZE * SIZE], CENTRE, goals);
+            int[] path = path(engine, withField ? grid.withDistanceField() : grid, CENTRE);
+            assertEquals(2, path.length);
+            assertEquals(expected, path[1], engine.getName() + (withField ? " on the field" : ""));
+        }
+        assertEquals(24, orders.size());
+    }
+
+    /**
+     * checks whether at least two goals are reachable and share the nearest distance.
+     */
+    private static boolean hasTie(GridSpace space) {
+        int[] distance = space.distancesFromStart();
+        int nearest = space.nearestGoalDistance();
+        int count = 0;
+        for (int goal : space.goals) {
+            if (distance[goal] == nearest && nearest != SearchSpace.UNREACHABLE) {
+                count++;
+            }
+        }
+        return count >= 2;
+    }
+
+    private static int[] path(Pathfinder engine, GridSpace space) {
+        return path(engine, space, space.start);
+    }
+
+    private static int[] path(Pathfinder engine, SearchSpace space, int start) {
+        SearchResult result = new SearchResult();
+        assertTrue(engine.findPath(space, start, result));
+        int[] path = new int[result.getPathLength()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = result.getPathCell(i);
+        }
+        return path;
+    }
+
+    private static List<int[]> permutations(int[] cells) {
+        List<int[]> all = new ArrayList<>();
+        if (cells.length == 1) {
+            all.add(cells.clone());
+            return all;
+        }
+        for (int i = 0; i < cells.length; i++) {
+            int[] rest = new int[cells.length - 1];
+            for (int j = 0, k = 0; j < cells.length; j++) {
+                if (j != i) {
+                    rest[k++] = cells[j];
+                }
+            }
+            for (int[] tail : permutations(rest)) {
+                int[] order = new int[cells.length];
+                order[0] = cells[i];
+                System.arraycopy(tail, 0, order, 1, tail.length);
+                all.add(order);
+            }
+        }
+        return all;
+    }
+}
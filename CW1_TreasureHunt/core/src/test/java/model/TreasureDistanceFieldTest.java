@@ -0,0 +1,160 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * the incremental repair of the treasure distance field against full rebuilds,
+ * and the BFS hints it serves, on the model and on hint snapshots, against a
+ * plain breadth-first search.
+ */
+class TreasureDistanceFieldTest {
+    private static final int[][] SIZES = {{20, 20}, {7, 5}, {1, 40}, {64, 48}, {97, 31}};
+    private static final double[] DENSITIES = {0, 0.1, 0.3, 0.45};
+    private static final GameRules LONG_GAMES = new GameRules(100000, 1, 1, 1);
+
+    @Test
+    void removeSourceMatchesRebuild() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int[] size : SIZES) {
+            for (double density : DENSITIES) {
+                for (long seed = 0; seed < 40; seed++) {
+                    GameModel model = new GameModel(size[0], size[1], density, seed);
+                    int[] treasures = new int[model.getTreasureCount()];
+                    for (int i = 0; i < treasures.length; i++) {
+                        treasures[i] = model.getTreasureCell(i);
+                    }
+
+                    BitGrid obstacles = obstacleGrid(model);
+                    TreasureDistanceField field = new TreasureDistanceField(obstacles, size[0], size[1]);
+                    field.build(treasures, treasures.length);
+                    for (int remaining = treasures.length; remaining > 0; remaining--) {
+                        // drop a random remaining treasure, keeping the rest at the front
+                        int removed = random.nextInt(remaining);
+                        field.removeSource(treasures[removed]);
+                        treasures[removed] = treasures[remaining - 1];
+
+                        TreasureDistanceField rebuilt = new TreasureDistanceField(obstacles, size[0], size[1]);
+                        rebuilt.build(treasures, remaining - 1);
+                        for (int cell = 0; cell < size[0] * size[1]; cell++) {
+                            assertEquals(rebuilt.distanceAt(cell), field.distanceAt(cell),
+                                    model.getMapId() + " cell " + cell + " with " + (remaining - 1) + " treasures left");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void bfsHintsMatchReferenceSearch() {
+        assertHintsMatchReferenceSearch(false);
+    }
+
+    @Test
+    void snapshotBfsHintsMatchReferenceSearch() {
+        assertHintsMatchReferenceSearch(true);
+    }
+
+    /**
+     * plays games that mostly follow BFS hints, asked of the model or searched on
+     * snapshots, and checks every hint against the nearest treasure.
+     */
+    private static void assertHintsMatchReferenceSearch(boolean onSnapshots) {
+        Pathfinder bfs = new BreadthFirstSearch();
+        SearchResult result = new SearchResult();
+        Direction[] directions = Direction.values();
+        SplittableRandom random = new SplittableRandom(7);
+        int hints = 0;
+
+        for (int[] size : SIZES) {
+            for (double density : DENSITIES) {
+                for (long seed = 0; seed < 20; seed++) {
+                    GameModel model = new GameModel(size[0], size[1], density, seed, LONG_GAMES);
+                    for (int move = 0; move < 400 && !model.allTreasuresFound(); move++) {
+                        boolean found;
+                        if (onSnapshots) {
+                            HintSnapshot snapshot = model.snapshotForHint();
+                            found = snapshot.search(bfs, result) && model.applyHint(snapshot, result);
+                        } else {
+                            found = model.showHint(bfs);
+                        }
+                        int expected = nearestTreasure(model);
+                        assertEquals(expected != SearchSpace.UNREACHABLE, found, model.getMapId() + " move " + move);
+                        if (found) {
+                            assertEquals(expected, model.getLastPathLength(), model.getMapId() + " move " + move);
+                        }
+                        hints++;
+
+                        // mostly follow the hint, so treasures get collected and the field repaired
+                        Direction direction = directions[random.nextInt(directions.length)];
+                        if (found && random.nextInt(4) != 0) {
+                            direction = towards(model, model.getLastSearch().getPathCell(0));
+                        }
+                        model.movePlayer(direction);
+                    }
+                }
+            }
+        }
+        assertTrue(hints > 10000, "hints checked: " + hints);
+    }
+
+    /**
+     * returns the length of the shortest path from the player to a remaining treasure.
+     */
+    private static int nearestTreasure(GameModel model) {
+        int width = model.getWidth();
+        int height = model.getHeight();
+        int[] distance = new int[width * height];
+        Arrays.fill(distance, -1);
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        distance[model.getPlayerCell()] = 0;
+        queue.add(model.getPlayerCell());
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            for (int i = 0; i < model.getTreasureCount(); i++) {
+                if (model.getTreasureCell(i) == cell) {
+                    return distance[cell];
+                }
+            }
+            int x = cell % width;
+            int y = cell / width;
+            int[] neighbours = {
+                    x > 0 ? cell - 1 : -1, x + 1 < width ? cell + 1 : -1,
+                    y > 0 ? cell - width : -1, y + 1 < height ? cell + width : -1};
+            for (int next : neighbours) {
+                if (next >= 0 && distance[next] < 0 && !model.isObstacle(next)) {
+                    distance[next] = distance[cell] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        return SearchSpace.UNREACHABLE;
+    }
+
+    private static BitGrid obstacleGrid(GameModel model) {
+        BitGrid obstacles = new BitGrid(model.getWidth(), model.getHeight());
+        for (int cell = 0; cell < model.getWidth() * model.getHeight(); cell++) {
+            if (model.isObstacle(cell)) {
+                obstacles.set(cell);
+            }
+        }
+        return obstacles;
+    }
+
+    private static Direction towards(GameModel model, int cell) {
+        int x = Coordinates.decodeX(cell, model.getWidth());
+        int y = Coordinates.decodeY(cell, model.getWidth());
+        if (x != model.getPlayerX()) {
+            return x < model.getPlayerX() ? Direction.LEFT : Direction.RIGHT;
+        }
+        return y < model.getPlayerY() ? Direction.UP : Direction.DOWN;
+    }
+}
@@ -0,0 +1,205 @@
+package server;
+
+import model.GameModel;
+import model.GameRules;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * a GameServer on a loopback port, driven over real sockets. after RESET with a
+ * seed the server's replies must match those of a Session playing a model made
+ * from the same seed, one command at a time or pipelined in a single write.
+ */
+class GameServerTest {
+    private static final int SIZE = 20;
+    private static final long SEED = 42;
+    private static final int MAX_SESSIONS = 2;
+
+    private GameServer server;
+    private int port;
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new GameServer(SIZE, GameModel.DEFAULT_DENSITY, MAX_SESSIONS, 10_000);
+        port = server.start(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void commandsGetTheirReplies() throws IOException {
+        Client client = connect();
+        Session expected = new Session(new GameModel(SIZE, SIZE, GameModel.DEFAULT_DENSITY, SEED));
+
+        String reset = client.send("RESET " + SEED);
+        assertTrue(reset.matches("OK \\d+ \\d+ " + GameModel.INITIAL_SCORE + " 0 3 PLAYING"), reset);
+        assertEquals(reply(expected, "RESET " + SEED), reset);
+
+        String state = client.send("STATE");
+        assertTrue(state.startsWith("STATE " + SIZE + " " + SIZE + " "), state);
+        assertEquals(SIZE * SIZE, state.substring(state.lastIndexOf(' ') + 1).length(), state);
+        assertEquals(reply(expected, "STATE"), state);
+
+        String move = client.send("move up");
+        assertTrue(move.matches("OK \\d+ \\d+ \\d+ \\d+ 3 (PLAYING|WON|LOST)"), move);
+        assertEquals(reply(expected, "MOVE UP"), move);
+
+        String hint = client.send("HINT BFS");
+        assertTrue(hint.matches("HINT (\\d+ \\d+ \\d+|NONE) \\d+"), hint);
+        assertEquals(reply(expected, "HINT BFS"), hint);
+
+        assertEquals("ERR expected MOVE UP, DOWN, LEFT or RIGHT", client.send("MOVE SIDEWAYS"));
+        assertEquals("ERR expected HINT BFS, A* or JPS", client.send("HINT DFS"));
+        assertEquals("ERR expected RESET or RESET seed", client.send("RESET soon"));
+        assertEquals("ERR unknown command", client.send("FLY"));
+
+        assertEquals("BYE", client.send("QUIT"));
+        assertNull(client.readLine(), "the server closes the session after BYE");
+    }
+
+    @Test
+    void pipelinedCommandsAreAnsweredInOrder() throws IOException {
+        SplittableRandom random = new SplittableRandom(3);
+        String[] commands = {"MOVE UP", "MOVE DOWN", "MOVE LEFT", "MOVE RIGHT", "HINT", "HINT JPS", "HINT BFS", "STATE"};
+        List<String> script = new ArrayList<>();
+        script.add("RESET " + SEED);
+        for (int i = 0; i < 400; i++) {
+            script.add(commands[random.nextInt(commands.length)]);
+        }
+        script.add("QUIT");
+
+        StringBuilder pipelined = new StringBuilder();
+        for (String command : script) {
+            pipelined.append(command).append('\n');
+        }
+        Client client = connect();
+        client.write(pipelined.toString());
+
+        Session expected = new Session(new GameModel(SIZE, SIZE, GameModel.DEFAULT_DENSITY, 0));
+        for (int i = 0; i < script.size(); i++) {
+            assertEquals(reply(expected, script.get(i)), client.readLine(), "reply " + i + " to " + script.get(i));
+        }
+        assertNull(client.readLine());
+    }
+
+    @Test
+    void linesLongerThanTheLimitEndTheSession() throws IOException {
+        Client client = connect();
+        // the limit counts the line break, so the longest line allowed has MAX_LINE - 1 bytes
+        String longest = "x".repeat(Connection.MAX_LINE - 1);
+        assertEquals("ERR unknown command", client.send(longest));
+        assertTrue(client.send("STATE").startsWith("STATE "));
+
+        client.write("MOVE UP\n" + longest + "x\nSTATE\n");
+        assertTrue(client.readLine().startsWith("OK "));
+        assertNull(client.readLine(), "the session ends at the long line");
+
+        // so does a long line that never ends
+        Client unending = connect();
+        unending.write("y".repeat(Connection.MAX_LINE * 4));
+        assertNull(unending.readLine());
+    }
+
+    @Test
+    void sessionsOverTheLimitAreRefused() throws IOException, InterruptedException {
+        Client first = connect();
+        Client second = connect();
+        assertTrue(first.send("STATE").startsWith("STATE "));
+        assertTrue(second.send("STATE").startsWith("STATE "));
+
+        Client third = connect();
+        assertEquals("ERR server full", third.readLine());
+        assertNull(third.readLine());
+
+        // a session that ends makes room for the next one
+        assertEquals("BYE", first.send("QUIT"));
+        for (int wait = 0; wait < 500 && server.getSessionCount() == MAX_SESSIONS; wait++) {
+            Thread.sleep(10);
+        }
+        assertTrue(connect().send("STATE").startsWith("STATE "));
+    }
+
+    @Test
+    void hintsTheScoreCannotPayForAreRefused() {
+        int hintCost = GameModel.INITIAL_SCORE + 1;
+        GameModel model = new GameModel(SIZE, SIZE, GameModel.DEFAULT_DENSITY, SEED,
+                new GameRules(GameModel.INITIAL_SCORE, 1, 10, hintCost));
+        Session session = new Session(model);
+
+        assertEquals("ERR hint costs " + hintCost, reply(session, "HINT"));
+        assertEquals(GameModel.INITIAL_SCORE, model.getScore());
+        assertEquals(0, model.getHintCellCount(), "hint cells shown");
+    }
+
+    private static String reply(Session session, String command) {
+        StringBuilder out = new StringBuilder();
+        session.handle(command, out);
+        return out.toString();
+    }
+
+    private Client connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setSoTimeout(10_000);
+        sockets.add(socket);
+        return new Client(socket);
+    }
+
+    /**
+     * one connection to the server under test.
+     */
+    private static final class Client {
+        private final OutputStream out;
+        private final BufferedReader in;
+
+        Client(Socket socket) throws IOException {
+            out = socket.getOutputStream();
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        }
+
+        void write(String text) throws IOException {
+            out.write(text.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        String send(String command) throws IOException {
+            write(command + "\n");
+            return readLine();
+        }
+
+        /**
+         * returns the next reply, or null once the server has closed the session.
+         */
+        String readLine() throws IOException {
+            try {
+                return in.readLine();
+            } catch (SocketException e) {
+                // reset by the server
+                return null;
+            }
+        }
+    }
+}
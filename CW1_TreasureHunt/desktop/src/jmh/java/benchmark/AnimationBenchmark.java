@@ -0,0 +1,144 @@
+package benchmark;
+
+import model.AStarSearch;
+import model.Cell;
+import model.Direction;
+import model.GameModel;
+import model.GameRules;
+import model.MapSnapshot;
+import model.SearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import view.AnimationManager;
+import view.GamePanel;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * one animation frame drawn over the whole grid into an off-screen image.
+ * the frame carries the pulsing player, a hint path, an obstacle hit and a
+ * sparkling treasure: the setup bumps into an obstacle and collects a treasure
+ * through movePlayer, so both show on the visible layer the effects are drawn
+ * over. the timers are stopped once those are started, so every invocation
+ * draws the same frame. run with -prof gc, gc.alloc.rate.norm shows the bytes a
+ * frame allocates, which should stay at zero; AnimationManagerTest asserts it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Djava.awt.headless=true"})
+public class AnimationBenchmark {
+    private static final int IMAGE_SIZE = 640;
+
+    @Param({"20", "256", "1024", "4096"})
+    private int size;
+
+    @Param({"0.2"})
+    private double density;
+
+    @Param({"20240601"})
+    private long seed;
+
+    private GameModel model;
+    private MapSnapshot snapshot;
+    private AnimationManager animationManager;
+    private BufferedImage image;
+    private Graphics2D g2d;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new GameModel(size, size, density, seed, new GameRules(Integer.MAX_VALUE, 1, 1, 1));
+        int obstacle = revealObstacle();
+        int treasure = collectTreasure();
+        model.showHint(new AStarSearch());
+        if (model.getCell(obstacle) != Cell.OBSTACLE || model.getCell(treasure) != Cell.TREASURE
+                || model.getHintCellCount() == 0) {
+            throw new IllegalStateException("the frame would not show every animation on " + model.getMapId());
+        }
+        snapshot = model.publishSnapshot();
+
+        animationManager = new AnimationManager();
+        animationManager.startHintPathAnimation(true);
+        animationManager.startObstacleHitAnimation(obstacle % size, obstacle / size);
+        animationManager.startTreasureCollectAnimation(treasure % size, treasure / size);
+        animationManager.dispose();
+
+        image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_ARGB_PRE);
+        g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    /**
+     * walks at random until a move is refused by an obstacle, which reveals it.
+     * returns the obstacle's cell.
+     */
+    private int revealObstacle() {
+        SplittableRandom random = new SplittableRandom(seed);
+        Direction[] directions = Direction.values();
+        while (true) {
+            Direction direction = directions[random.nextInt(directions.length)];
+            int from = model.getPlayerCell();
+            int x = model.getPlayerX() + (direction == Direction.RIGHT ? 1 : direction == Direction.LEFT ? -1 : 0);
+            int y = model.getPlayerY() + (direction == Direction.DOWN ? 1 : direction == Direction.UP ? -1 : 0);
+            model.movePlayer(direction);
+            if (model.getPlayerCell() == from && model.isValidPosition(x, y)) {
+                return y * size + x;
+            }
+        }
+    }
+
+    /**
+     * walks an A* path to the nearest treasure, then steps back off it so it shows
+     * as collected. returns the treasure's cell.
+     */
+    private int collectTreasure() {
+        model.showHint(new AStarSearch());
+        SearchResult path = model.getLastSearch();
+        int previous = model.getPlayerCell();
+        for (int i = 0; ; i++) {
+            int cell = path.getPathCell(i);
+            if (model.movePlayer(towards(cell))) {
+                model.movePlayer(towards(previous));
+                return cell;
+            }
+            previous = cell;
+        }
+    }
+
+    private Direction towards(int cell) {
+        int x = cell % size;
+        int y = cell / size;
+        if (x != model.getPlayerX()) {
+            return x < model.getPlayerX() ? Direction.LEFT : Direction.RIGHT;
+        }
+        return y < model.getPlayerY() ? Direction.UP : Direction.DOWN;
+    }
+
+    @Benchmark
+    public BufferedImage drawAnimations() {
+        animationManager.drawAnimations(g2d, snapshot, GamePanel.getCellSize());
+        return image;
+    }
+}
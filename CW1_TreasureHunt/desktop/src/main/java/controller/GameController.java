@@ -0,0 +1,182 @@
+package controller;
+
+import model.Direction;
+import model.GameModel;
+import model.Pathfinder;
+import model.SearchResult;
+import view.AnimationManager;
+import view.GameView;
+import view.Theme;
+
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+
+/**
+ * connects the Swing view to GameActions: keys and buttons become game actions,
+ * and what the game reports is shown with the view's animations and dialogs.
+ */
+public class GameController {
+    private GameView view;
+    private AnimationManager animationManager;
+    private final GameActions actions;
+
+    /**
+     * constructor initializes the game components and sets up event listeners.
+     */
+    public GameController(GameModel model, GameView view) {
+        this.view = view;
+
+        view.setController(this);
+        view.bindModel(model);
+        this.animationManager = view.getAnimationManager();
+        this.actions = new GameActions(model, new ViewDisplay(), SwingUtilities::invokeLater);
+
+        // welcome screen set up
+        view.addStartButtonListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                view.showGameScreen();
+                actions.startGame();
+            }
+        });
+
+        // player movement set up
+        view.addKeyboardListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (handleZoomKey(e.getKeyCode())) {
+                    return;
+                }
+                Direction direction = directionFor(e.getKeyCode());
+                if (direction != null) {
+                    actions.queueMove(direction);
+                }
+            }
+        });
+
+        // one hint button per registered search engine
+        int hintCost = model.getRules().getHintCost();
+        for (final Pathfinder pathfinder : actions.getPathfinders().getPathfinders()) {
+            view.addHintButton(pathfinder.getName(), pathfinder.getDescription(), hintCost, new ActionListener() {
+                @Override
+                public void actionPerformed(ActionEvent e) {
+                    actions.requestHint(pathfinder);
+                }
+            });
+        }
+
+        // reset button set up
+        view.addResetButtonListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                actions.resetGame();
+            }
+        });
+    }
+
+    /**
+     * zooms the view with the plus and minus keys, returning whether the key was one of them.
+     */
+    private boolean handleZoomKey(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_PLUS:
+            case KeyEvent.VK_EQUALS:
+            case KeyEvent.VK_ADD:
+                view.zoomIn();
+                return true;
+            case KeyEvent.VK_MINUS:
+            case KeyEvent.VK_SUBTRACT:
+                view.zoomOut();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * returns the move for an arrow key, or null for any other key.
+     */
+    private static Direction directionFor(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_UP:
+                return Direction.UP;
+            case KeyEvent.VK_DOWN:
+                return Direction.DOWN;
+            case KeyEvent.VK_LEFT:
+                return Direction.LEFT;
+            case KeyEvent.VK_RIGHT:
+                return Direction.RIGHT;
+            default:
+                return null;
+        }
+    }
+
+    private static Color hintColor(Pathfinder pathfinder) {
+        return pathfinder.isHeuristic() ? Theme.PATH_HINT_ASTAR_COLOR : Theme.PATH_HINT_BFS_COLOR;
+    }
+
+    /**
+     * resumes the game after it was paused (e.g., after a popup dialog)
+     */
+    public void resumeGame() {
+        actions.resumeGame();
+    }
+
+    /**
+     * shows what the game reports with the view's animations, statistics and dialogs.
+     */
+    private class ViewDisplay implements GameDisplay {
+        @Override
+        public void hintCleared() {
+            animationManager.stopHintPathAnimation();
+        }
+
+        @Override
+        public void hintSearching(Pathfinder pathfinder) {
+            animationManager.setAStarPathActive(pathfinder.isHeuristic());
+            view.showHintPending(pathfinder.getName(), hintColor(pathfinder));
+        }
+
+        @Override
+        public void hintCancelled() {
+            view.clearStatistics();
+        }
+
+        @Override
+        public void hintFinished(Pathfinder pathfinder, SearchResult result, boolean shown) {
+            if (shown) {
+                animationManager.startHintPathAnimation(pathfinder.isHeuristic());
+            }
+            view.updateStatistics(pathfinder.getName(), hintColor(pathfinder), result);
+        }
+
+        @Override
+        public void obstacleHit(int x, int y) {
+            animationManager.startObstacleHitAnimation(x, y);
+        }
+
+        @Override
+        public void treasureCollected(int x, int y) {
+            animationManager.startTreasureCollectAnimation(x, y);
+        }
+
+        @Override
+        public void treasureFound(int treasuresFound, int treasuresTotal) {
+            view.showTreasureFoundMessage(treasuresFound, treasuresTotal);
+        }
+
+        @Override
+        public void gameOver(boolean won, int finalScore) {
+            view.showGameOverMessage(won, finalScore);
+        }
+
+        @Override
+        public void gameReset() {
+            view.updateStatistics(true, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package view;
+
+import model.Cell;
+import model.Coordinates;
+import model.MapSnapshot;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * manages various animations in the game.
+ * all animations advance on one FrameClock in fixed steps of
+ * FrameClock.STEP_MILLIS: the player pulse every PULSE_INTERVAL steps, the hint
+ * blink every HINT_BLINK_INTERVAL, sparkles every SPARKLE_INTERVAL and the
+ * obstacle hit on every step; the panel's camera scrolls on the same steps.
+ * a frame collects the cells its steps touched and repaints them with one
+ * request. the clock stops when nothing is animating, which includes the
+ * player pulse once the game has been idle for a few seconds.
+ */
+public class AnimationManager {
+    // the pulse stops this long after the last model change
+    private static final long PULSE_IDLE_NANOS = 5_000_000_000L;
+
+    // clock steps between animation frames
+    private static final int PULSE_INTERVAL = 2;
+    private static final int HINT_BLINK_INTERVAL = 6;
+    private static final int SPARKLE_INTERVAL = 3;
+
+    private final GamePanel panel;
+    private final FrameClock clock;
+
+    // animation properties
+    static final float PLAYER_PULSE_MIN = 0.7f;
+    static final float PLAYER_PULSE_MAX = 1.0f;
+    static final float PLAYER_PULSE_STEP = 0.05f;
+    static final int TREASURE_SPARKLE_COUNT = 5;
+    private static final int OBSTACLE_HIT_FRAMES = 10;
+
+    // pre-rendered sprites for every cell type and animation phase
+    private final TileAtlas atlas;
+
+    // animation state
+    private boolean pulseRunning = true;
+    private int pulseSteps;
+    private float playerPulseValue = PLAYER_PULSE_MAX;
+    private boolean playerPulseIncreasing = false;
+    private boolean hintBlinking;
+    private int hintSteps;
+    private boolean hintPathVisible = true;
+    private int obstacleHitFrame = 0;
+
+    // cell of the obstacle hit animation, or -1 when none is running
+    private int hitObstacleX = -1;
+    private int hitObstacleY = -1;
+
+    // sparkling treasure cells and their frames left, in parallel arrays
+    private int[] sparkleX = new int[4];
+    private int[] sparkleY = new int[4];
+    private int[] sparkleFrames = new int[4];
+    private int sparkleCount;
+    private int sparkleSteps;
+
+    private boolean isAStarPathActive = false;
+
+    private long lastActivity = System.nanoTime();
+
+    // cells touched by the steps of the current frame; empty while frameMinX > frameMaxX
+    private int frameMinX = Integer.MAX_VALUE;
+    private int frameMinY = Integer.MAX_VALUE;
+    private int frameMaxX = Integer.MIN_VALUE;
+    private int frameMaxY = Integer.MIN_VALUE;
+
+    /**
+     * creates an animation manager that does not repaint anything by itself.
+     */
+    public AnimationManager() {
+        this(null);
+    }
+
+    /**
+     * constructor starts the frame clock, which repaints animated cells on the given panel.
+     */
+    AnimationManager(GamePanel panel) {
+        this.panel = panel;
+        this.atlas = panel != null ? panel.getTileAtlas() : new TileAtlas();
+        this.clock = new FrameClock(new FrameClock.Client() {
+            @Override
+            public boolean step() {
+                return advance();
+            }
+
+            @Override
+            public void endFrame() {
+                repaintFrame();
+            }
+        });
+        clock.start();
+    }
+
+    /**
+     * restarts the player pulse after activity.
+     */
+    public void wake() {
+        lastActivity = System.nanoTime();
+        if (!pulseRunning) {
+            pulseRunning = true;
+            pulseSteps = 0;
+        }
+        clock.start();
+    }
+
+    /**
+     * pauses every animation, e.g. while the window is minimized, or resumes them.
+     */
+    void setSuspended(boolean suspended) {
+        clock.setSuspended(suspended);
+    }
+
+    /**
+     * starts the treasure collection animation at the specified location.
+     */
+    public void startTreasureCollectAnimation(int x, int y) {
+        int slot = 0;
+        while (slot < sparkleCount && (sparkleX[slot] != x || sparkleY[slot] != y)) {
+            slot++;
+        }
+        if (slot == sparkleCount) {
+            if (sparkleCount == sparkleX.length) {
+                sparkleX = Arrays.copyOf(sparkleX, sparkleCount * 2);
+                sparkleY = Arrays.copyOf(sparkleY, sparkleCount * 2);
+                sparkleFrames = Arrays.copyOf(sparkleFrames, sparkleCount * 2);
+            }
+            sparkleX[slot] = x;
+            sparkleY[slot] = y;
+            sparkleCount++;
+        }
+        sparkleFrames[slot] = TREASURE_SPARKLE_COUNT;
+        sparkleSteps = 0;
+        repaintAround(x, y);
+        clock.start();
+    }
+
+    /**
+     * starts the hint path animation with specified algorithm.
+     */
+    public void startHintPathAnimation() {
+        if (!hintBlinking) {
+            hintBlinking = true;
+            hintSteps = 0;
+            hintPathVisible = true;
+        }
+        repaintHintPath();
+        clock.start();
+    }
+
+    /**
+     * starts the hint path animation with specified algorithm.
+     */
+    public void startHintPathAnimation(boolean isAStar) {
+        isAStarPathActive = isAStar;
+        startHintPathAnimation();
+    }
+
+    /**
+     * stops the hint path animation.
+     */
+    public void stopHintPathAnimation() {
+        hintBlinking = false;
+        if (!hintPathVisible) {
+            hintPathVisible = true;
+            repaintHintPath();
+        }
+    }
+
+    /**
+     * starts the obstacle hit animation.
+     */
+    public void startObstacleHitAnimation(int x, int y) {
+        if (hitObstacleX != -1) {
+            repaintCell(hitObstacleX, hitObstacleY);
+        }
+        hitObstacleX = x;
+        hitObstacleY = y;
+        obstacleHitFrame = 0;
+        repaintCell(x, y);
+        clock.start();
+    }
+
+    /**
+     * advances every running animation by one clock step and returns whether any is left.
+     */
+    private boolean advance() {
+        if (pulseRunning) {
+            if (System.nanoTime() - lastActivity > PULSE_IDLE_NANOS) {
+                pulseRunning = false;
+                playerPulseValue = PLAYER_PULSE_MAX;
+                playerPulseIncreasing = false;
+                markPlayer();
+            } else if (++pulseSteps == PULSE_INTERVAL) {
+                pulseSteps = 0;
+                advancePulse();
+                markPlayer();
+            }
+        }
+
+        if (hintBlinking && ++hintSteps == HINT_BLINK_INTERVAL) {
+            hintSteps = 0;
+            hintPathVisible = !hintPathVisible;
+            markHintPath();
+        }
+
+        if (hitObstacleX != -1) {
+            obstacleHitFrame++;
+            markCell(hitObstacleX, hitObstacleY);
+            if (obstacleHitFrame > OBSTACLE_HIT_FRAMES) {
+                obstacleHitFrame = 0;
+                hitObstacleX = -1;
+                hitObstacleY = -1;
+            }
+        }
+
+        if (sparkleCount > 0 && ++sparkleSteps == SPARKLE_INTERVAL) {
+            sparkleSteps = 0;
+            boolean allAnimationsComplete = true;
+            for (int i = 0; i < sparkleCount; i++) {
+                if (sparkleFrames[i] > 0) {
+                    sparkleFrames[i]--;
+                    allAnimationsComplete = false;
+                }
+                markCells(sparkleX[i] - 1, sparkleY[i] - 1, sparkleX[i] + 1, sparkleY[i] + 1);
+            }
+            if (allAnimationsComplete) {
+                sparkleCount = 0;
+            }
+        }
+
+        boolean scrolling = panel != null && panel.scrollCamera();
+
+        return pulseRunning || hintBlinking || hitObstacleX != -1 || sparkleCount > 0 || scrolling;
+    }
+
+    /**
+     * repaints the cells the steps of this frame touched, with one request.
+     */
+    private void repaintFrame() {
+        if (frameMinX <= frameMaxX) {
+            if (panel != null) {
+                panel.repaintCells(frameMinX, frameMinY, frameMaxX, frameMaxY);
+            }
+            frameMinX = Integer.MAX_VALUE;
+            frameMinY = Integer.MAX_VALUE;
+            frameMaxX = Integer.MIN_VALUE;
+            frameMaxY = Integer.MIN_VALUE;
+        }
+    }
+
+    private void advancePulse() {
+        if (playerPulseIncreasing) {
+            playerPulseValue += PLAYER_PULSE_STEP;
+            if (playerPulseValue >= PLAYER_PULSE_MAX) {
+                playerPulseValue = PLAYER_PULSE_MAX;
+                playerPulseIncreasing = false;
+            }
+        } else {
+            playerPulseValue -= PLAYER_PULSE_STEP;
+            if (playerPulseValue <= PLAYER_PULSE_MIN) {
+                playerPulseValue = PLAYER_PULSE_MIN;
+                playerPulseIncreasing = true;
+            }
+        }
+    }
+
+    /**
+     * draws animations on the provided graphics context.
+     */
+    public void drawAnimations(Graphics2D g2d, MapSnapshot snapshot, int cellSize) {
+        if (snapshot != null) {
+            drawAnimations(g2d, snapshot, cellSize, 0, 0, snapshot.getWidth() - 1, snapshot.getHeight() - 1);
+        }
+    }
+
+    /**
+     * draws animations for the cells from (minX, minY) to (maxX, maxY), inclusive.
+     * only cells that carry an animated element are visited (the player, the hint
+     * path, a hit obstacle and sparkling treasures), and nothing is allocated.
+     */
+    public void drawAnimations(Graphics2D g2d, MapSnapshot snapshot, int cellSize, int minX, int minY, int maxX, int maxY) {
+        if (snapshot == null) {
+            return;
+        }
+
+        // the panel has checked the scale for this paint already
+        atlas.validateSize(g2d, cellSize);
+
+        int width = snapshot.getWidth();
+        for (int i = 0; i < snapshot.getHintCellCount(); i++) {
+            int x = Coordinates.decodeX(snapshot.getHintCell(i), width);
+            int y = Coordinates.decodeY(snapshot.getHintCell(i), width);
+            if (isInRange(x, y, minX, minY, maxX, maxY) && snapshot.getCell(x, y) == Cell.PATH_HINT) {
+                atlas.drawHint(g2d, isAStarPathActive, hintPathVisible, x * cellSize, y * cellSize);
+            }
+        }
+
+        int playerX = snapshot.getPlayerX();
+        int playerY = snapshot.getPlayerY();
+        if (isInRange(playerX, playerY, minX, minY, maxX, maxY)) {
+            atlas.drawPlayer(g2d, playerPulseValue, playerX * cellSize, playerY * cellSize);
+        }
+
+        if (hitObstacleX != -1 && isInRange(hitObstacleX, hitObstacleY, minX, minY, maxX, maxY)
+                && snapshot.getCell(hitObstacleX, hitObstacleY) == Cell.OBSTACLE) {
+            atlas.drawObstacleHit(g2d, obstacleHitFrame, hitObstacleX * cellSize, hitObstacleY * cellSize);
+        }
+
+        for (int i = 0; i < sparkleCount; i++) {
+            int x = sparkleX[i];
+            int y = sparkleY[i];
+            if (sparkleFrames[i] > 0 && isInRange(x, y, minX, minY, maxX, maxY)
+                    && snapshot.getCell(x, y) == Cell.TREASURE) {
+                atlas.drawSparkles(g2d, sparkleFrames[i], x * cellSize, y * cellSize);
+            }
+        }
+    }
+
+    private static boolean isInRange(int x, int y, int minX, int minY, int maxX, int maxY) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /**
+     * drops the pre-rendered sprites and repaints, so they are drawn again, e.g. when
+     * the panel moves to another screen.
+     */
+    public void invalidateSprites() {
+        atlas.invalidate();
+        if (panel != null) {
+            panel.repaint();
+        }
+    }
+
+    /**
+     * sets the active hint path algorithm type.
+     */
+    public void setAStarPathActive(boolean isAStar) {
+        if (isAStarPathActive != isAStar) {
+            this.isAStarPathActive = isAStar;
+            repaintHintPath();
+        }
+    }
+
+    private void repaintCell(int x, int y) {
+        if (panel != null) {
+            panel.repaintCell(x, y);
+        }
+    }
+
+    /**
+     * repaints a cell and its neighbours, which sparkles reach into.
+     */
+    private void repaintAround(int x, int y) {
+        if (panel != null) {
+            panel.repaintCells(x - 1, y - 1, x + 1, y + 1);
+        }
+    }
+
+    private void repaintHintPath() {
+        MapSnapshot shown = panel == null ? null : panel.getSnapshot();
+        if (shown != null) {
+            for (int i = 0; i < shown.getHintCellCount(); i++) {
+                int cell = shown.getHintCell(i);
+                repaintCell(Coordinates.decodeX(cell, shown.getWidth()), Coordinates.decodeY(cell, shown.getWidth()));
+            }
+        }
+    }
+
+    /**
+     * adds cells to the region the current frame repaints.
+     */
+    private void markCells(int x0, int y0, int x1, int y1) {
+        frameMinX = Math.min(frameMinX, x0);
+        frameMinY = Math.min(frameMinY, y0);
+        frameMaxX = Math.max(frameMaxX, x1);
+        frameMaxY = Math.max(frameMaxY, y1);
+    }
+
+    private void markCell(int x, int y) {
+        markCells(x, y, x, y);
+    }
+
+    private void markPlayer() {
+        MapSnapshot shown = panel == null ? null : panel.getSnapshot();
+        if (shown != null) {
+            markCell(shown.getPlayerX(), shown.getPlayerY());
+        }
+    }
+
+    private void markHintPath() {
+        MapSnapshot shown = panel == null ? null : panel.getSnapshot();
+        if (shown != null) {
+            for (int i = 0; i < shown.getHintCellCount(); i++) {
+                int cell = shown.getHintCell(i);
+                markCell(Coordinates.decodeX(cell, shown.getWidth()), Coordinates.decodeY(cell, shown.getWidth()));
+            }
+        }
+    }
+
+    /**
+     * cleans up resources when no longer needed.
+     */
+    public void dispose() {
+        clock.stop();
+    }
+}
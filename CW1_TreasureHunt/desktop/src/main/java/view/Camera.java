@@ -0,0 +1,134 @@
+package view;
+
+/**
+ * the part of the map shown in the game panel, in map pixels at the current zoom.
+ * the camera follows the player with a margin, so the view only scrolls when the
+ * player gets close to its edge, and eases towards its target one frame clock
+ * step at a time. a map smaller than the view is centred instead of scrolled.
+ */
+class Camera {
+    // cell sizes in pixels, from furthest out to closest in
+    private static final int[] ZOOM_LEVELS = {6, 10, 15, 20, 30, 45, 60};
+    private static final int DEFAULT_ZOOM = 4;
+
+    // cells kept between the player and the edge of the view
+    private static final int FOLLOW_MARGIN = 3;
+    // fraction of the remaining distance covered per step while scrolling
+    private static final double SCROLL_EASING = 0.35;
+
+    private int zoom = DEFAULT_ZOOM;
+    private int gridWidth;
+    private int gridHeight;
+    private int viewWidth;
+    private int viewHeight;
+
+    // map pixel at the top left of the view, and where it is scrolling to
+    private double x;
+    private double y;
+    private double targetX;
+    private double targetY;
+
+    int getCellSize() {
+        return ZOOM_LEVELS[zoom];
+    }
+
+    /**
+     * the map pixel shown at the left edge of the view.
+     */
+    int getOriginX() {
+        return (int) Math.round(x);
+    }
+
+    /**
+     * the map pixel shown at the top edge of the view.
+     */
+    int getOriginY() {
+        return (int) Math.round(y);
+    }
+
+    void setGridSize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+    }
+
+    void setViewSize(int viewWidth, int viewHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    /**
+     * changes the zoom by the given number of levels, keeping the map pixel under
+     * the view point (anchorX, anchorY) in place. returns whether the zoom changed.
+     */
+    boolean zoom(int levels, int anchorX, int anchorY) {
+        int newZoom = Math.max(0, Math.min(ZOOM_LEVELS.length - 1, zoom + levels));
+        if (newZoom == zoom) {
+            return false;
+        }
+
+        double scale = (double) ZOOM_LEVELS[newZoom] / ZOOM_LEVELS[zoom];
+        zoom = newZoom;
+        x = targetX = clamp((x + anchorX) * scale - anchorX, gridWidth, viewWidth);
+        y = targetY = clamp((y + anchorY) * scale - anchorY, gridHeight, viewHeight);
+        return true;
+    }
+
+    /**
+     * sets the target so the player's cell lies inside the follow margin.
+     * returns whether the camera has somewhere to scroll to.
+     */
+    boolean follow(int playerX, int playerY) {
+        targetX = follow(targetX, playerX, gridWidth, viewWidth);
+        targetY = follow(targetY, playerY, gridHeight, viewHeight);
+        return targetX != x || targetY != y;
+    }
+
+    /**
+     * moves straight to the target.
+     */
+    void snap() {
+        x = targetX;
+        y = targetY;
+    }
+
+    /**
+     * eases one step towards the target and returns whether the camera is still moving.
+     */
+    boolean step() {
+        x = approach(x, targetX);
+        y = approach(y, targetY);
+        return x != targetX || y != targetY;
+    }
+
+    private double follow(double origin, int playerCell, int gridCells, int viewSize) {
+        int cellSize = getCellSize();
+        int margin = Math.max(0, Math.min(FOLLOW_MARGIN * cellSize, (viewSize - cellSize) / 2));
+        int playerLeft = playerCell * cellSize;
+
+        if (playerLeft - margin < origin) {
+            origin = playerLeft - margin;
+        } else if (playerLeft + cellSize + margin > origin + viewSize) {
+            origin = playerLeft + cellSize + margin - viewSize;
+        }
+        return clamp(origin, gridCells, viewSize);
+    }
+
+    /**
+     * keeps the view inside the map, or centres the map when it is smaller than the view.
+     */
+    private double clamp(double origin, int gridCells, int viewSize) {
+        int mapSize = gridCells * getCellSize();
+        if (mapSize <= viewSize) {
+            return -((viewSize - mapSize) / 2);
+        }
+        return Math.max(0, Math.min(mapSize - viewSize, Math.round(origin)));
+    }
+
+    private static double approach(double value, double target) {
+        double remaining = target - value;
+        if (Math.abs(remaining) < 1) {
+            return target;
+        }
+        return value + remaining * SCROLL_EASING;
+    }
+}
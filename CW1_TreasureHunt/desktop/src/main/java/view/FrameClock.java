@@ -0,0 +1,101 @@
+package view;
+
+import javax.swing.*;
+
+/**
+ * a fixed-timestep clock that drives every animation from a single swing timer.
+ * each tick measures the nanoseconds elapsed since the last one, runs as many
+ * whole steps as have passed and then ends the frame once, so animation speed
+ * follows real time rather than how promptly the event queue delivers ticks.
+ * a stalled queue is caught up by at most MAX_STEPS_PER_FRAME steps; the rest
+ * of the backlog is dropped. the clock stops itself as soon as its client
+ * reports that nothing is animating, and does not run while suspended.
+ */
+class FrameClock {
+    static final int STEP_MILLIS = 50;
+    static final long STEP_NANOS = STEP_MILLIS * 1_000_000L;
+    private static final int MAX_STEPS_PER_FRAME = 4;
+
+    /**
+     * what the clock drives.
+     */
+    interface Client {
+        /**
+         * advances all animations by one step and returns whether any is still running.
+         */
+        boolean step();
+
+        /**
+         * called once after the steps of a frame, to repaint what they changed.
+         */
+        void endFrame();
+    }
+
+    private final Client client;
+    private final Timer timer;
+    private long lastNanos;
+    private long pendingNanos;
+    private boolean suspended;
+
+    FrameClock(Client client) {
+        this.client = client;
+        this.timer = new Timer(STEP_MILLIS, e -> tick());
+    }
+
+    /**
+     * starts ticking unless the clock is already running or suspended.
+     */
+    void start() {
+        if (!suspended && !timer.isRunning()) {
+            lastNanos = System.nanoTime();
+            pendingNanos = 0;
+            timer.start();
+        }
+    }
+
+    void stop() {
+        timer.stop();
+    }
+
+    boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    /**
+     * pauses the clock, e.g. while the window is minimized, or resumes it.
+     * time spent suspended is not caught up.
+     */
+    void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+        if (suspended) {
+            timer.stop();
+        } else {
+            start();
+        }
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        pendingNanos += now - lastNanos;
+        lastNanos = now;
+
+        // rounding keeps a tick that fires slightly early from skipping a step
+        long steps = (pendingNanos + STEP_NANOS / 2) / STEP_NANOS;
+        if (steps > MAX_STEPS_PER_FRAME) {
+            steps = MAX_STEPS_PER_FRAME;
+            pendingNanos = 0;
+        } else {
+            pendingNanos -= steps * STEP_NANOS;
+        }
+
+        boolean animating = true;
+        for (int i = 0; i < steps && animating; i++) {
+            animating = client.step();
+        }
+        client.endFrame();
+
+        if (!animating) {
+            timer.stop();
+        }
+    }
+}
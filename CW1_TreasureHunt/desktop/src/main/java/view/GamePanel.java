@@ -0,0 +1,317 @@
+package view;
+
+import model.Coordinates;
+import model.GameModel;
+import model.MapSnapshot;
+import model.ModelChange;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+
+/**
+ * Panel that renders the game grid with animations.
+ * the panel is a fixed-size window onto the map: a Camera follows the player,
+ * scrolls smoothly and zooms with the mouse wheel, and only the cells in view
+ * are ever painted, so paint cost depends on the screen rather than the map.
+ * repainting is change-driven: model changes and animation frames repaint only
+ * the cells they touch, and painting only visits the cells inside the clip.
+ * animations are paused while the window is minimized.
+ * cells are blitted from a TileAtlas rather than drawn shape by shape.
+ * painting reads the MapSnapshot the model publishes after every change, never
+ * the live model, so it does not depend on the thread the model is changed on.
+ */
+public class GamePanel extends JPanel {
+    private static final int CELL_SIZE = 30;
+    // twenty cells at the default zoom
+    private static final int VIEW_SIZE = 600;
+    private GameModel model;
+    private final TileAtlas tileAtlas = new TileAtlas();
+    private final Camera camera = new Camera();
+    private AnimationManager animationManager;
+
+    // suspends the animations while the window holding the panel is minimized
+    private final WindowAdapter iconifyListener = new WindowAdapter() {
+        @Override
+        public void windowIconified(WindowEvent e) {
+            animationManager.setSuspended(true);
+        }
+
+        @Override
+        public void windowDeiconified(WindowEvent e) {
+            animationManager.setSuspended(false);
+        }
+    };
+    private Window window;
+
+    public GamePanel() {
+        animationManager = new AnimationManager(this);
+
+        setBackground(Theme.NAVY);
+        setPreferredSize(getViewSize());
+        camera.setViewSize(VIEW_SIZE, VIEW_SIZE);
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                camera.setViewSize(getWidth(), getHeight());
+                centreOnPlayer();
+            }
+        });
+
+        addMouseWheelListener(e -> zoom(-e.getWheelRotation(), e.getX(), e.getY()));
+        // another screen may have another scale; paint also checks it, in case only the scale changes
+        addPropertyChangeListener("graphicsConfiguration", e -> animationManager.invalidateSprites());
+    }
+
+    public void setModel(GameModel model) {
+        if (this.model != model) {
+            this.model = model;
+            model.publishSnapshot();
+            centreOnPlayer();
+        }
+    }
+
+    /**
+     * returns the latest state the model published, or null if no model is shown.
+     */
+    MapSnapshot getSnapshot() {
+        return model == null ? null : model.getSnapshot();
+    }
+
+    TileAtlas getTileAtlas() {
+        return tileAtlas;
+    }
+
+    public AnimationManager getAnimationManager() {
+        return animationManager;
+    }
+
+    /**
+     * zooms in one level, around the centre of the view.
+     */
+    public void zoomIn() {
+        zoom(1, getWidth() / 2, getHeight() / 2);
+    }
+
+    /**
+     * zooms out one level, around the centre of the view.
+     */
+    public void zoomOut() {
+        zoom(-1, getWidth() / 2, getHeight() / 2);
+    }
+
+    private void zoom(int levels, int anchorX, int anchorY) {
+        if (camera.zoom(levels, anchorX, anchorY)) {
+            centreOnPlayer();
+        }
+    }
+
+    /**
+     * moves the camera straight to the player, e.g. for a new map or zoom level.
+     */
+    private void centreOnPlayer() {
+        if (model != null) {
+            camera.setGridSize(model.getWidth(), model.getHeight());
+            camera.follow(model.getPlayerX(), model.getPlayerY());
+            camera.snap();
+        }
+        repaint();
+    }
+
+    /**
+     * advances a smooth scroll by one frame clock step, returning whether it is still going.
+     */
+    boolean scrollCamera() {
+        int oldX = camera.getOriginX();
+        int oldY = camera.getOriginY();
+        boolean scrolling = camera.step();
+        if (camera.getOriginX() != oldX || camera.getOriginY() != oldY) {
+            repaint();
+        }
+        return scrolling;
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        window = SwingUtilities.getWindowAncestor(this);
+        if (window != null) {
+            window.addWindowListener(iconifyListener);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (window != null) {
+            window.removeWindowListener(iconifyListener);
+            window = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * repaints the whole view with the camera on the player, e.g. when a model is bound.
+     */
+    public void repaintAll() {
+        if (model == null) {
+            return;
+        }
+
+        centreOnPlayer();
+        animationManager.wake();
+    }
+
+    /**
+     * repaints the cells a batch of model changes touched; a new map repaints everything.
+     */
+    void applyChanges(List<ModelChange> changes) {
+        if (model == null) {
+            return;
+        }
+
+        for (int i = 0; i < changes.size(); i++) {
+            ModelChange change = changes.get(i);
+            switch (change.getType()) {
+                case MAP_RESET:
+                    centreOnPlayer();
+                    break;
+                case SCORE_CHANGED:
+                    break;
+                case PLAYER_MOVED:
+                    repaintCell(change.getFromX(), change.getFromY());
+                    repaintCell(change.getX(), change.getY());
+                    break;
+                default:
+                    repaintCell(change.getX(), change.getY());
+                    break;
+            }
+        }
+
+        camera.follow(model.getPlayerX(), model.getPlayerY());
+        animationManager.wake();
+    }
+
+    /**
+     * repaints a single cell, including its grid lines.
+     */
+    void repaintCell(int x, int y) {
+        repaintCells(x, y, x, y);
+    }
+
+    /**
+     * repaints the rectangle of cells from (x0, y0) to (x1, y1), inclusive.
+     */
+    void repaintCells(int x0, int y0, int x1, int y1) {
+        int cellSize = camera.getCellSize();
+        repaint(x0 * cellSize - camera.getOriginX(), y0 * cellSize - camera.getOriginY(),
+                (x1 - x0 + 1) * cellSize + 1, (y1 - y0 + 1) * cellSize + 1);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+
+        MapSnapshot snapshot = getSnapshot();
+        if (snapshot == null) return;
+
+        Graphics2D g2d = (Graphics2D) g.create();
+
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int gridWidth = snapshot.getWidth();
+        int gridHeight = snapshot.getHeight();
+        int cellSize = camera.getCellSize();
+        int originX = camera.getOriginX();
+        int originY = camera.getOriginY();
+
+        // only the cells that intersect the clip are drawn, in map coordinates
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int minX = Math.max(0, Math.floorDiv(clip.x + originX, cellSize));
+        int minY = Math.max(0, Math.floorDiv(clip.y + originY, cellSize));
+        int maxX = Math.min(gridWidth - 1, Math.floorDiv(clip.x + clip.width + originX, cellSize));
+        int maxY = Math.min(gridHeight - 1, Math.floorDiv(clip.y + clip.height + originY, cellSize));
+        if (minX > maxX || minY > maxY) {
+            g2d.dispose();
+            return;
+        }
+
+        g2d.translate(-originX, -originY);
+        tileAtlas.validate(g2d, cellSize);
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                int cellX = x * cellSize;
+                int cellY = y * cellSize;
+
+                switch (snapshot.getCell(x, y)) {
+                    case EMPTY:
+                        tileAtlas.drawEmpty(g2d, cellX, cellY);
+                        break;
+                    case OBSTACLE:
+                        tileAtlas.drawObstacle(g2d, cellX, cellY);
+                        break;
+                    case TREASURE:
+                        tileAtlas.drawTreasure(g2d, cellX, cellY);
+                        break;
+                    default:
+                        // the player and hint steps are drawn by the animation pass
+                        break;
+                }
+            }
+        }
+
+        // animations such as sparkles reach into neighbouring cells
+        animationManager.drawAnimations(g2d, snapshot, cellSize,
+                Math.max(0, minX - 1), Math.max(0, minY - 1),
+                Math.min(gridWidth - 1, maxX + 1), Math.min(gridHeight - 1, maxY + 1));
+
+        g2d.setColor(Theme.DARK_NAVY);
+        g2d.setStroke(new BasicStroke(0.5f));
+        // lines run a cell past the clip, or to the grid edge, so their anti-aliased
+        // ends never fall inside it
+        int lineLeft = Math.max(0, minX - 1) * cellSize;
+        int lineRight = Math.min(gridWidth, maxX + 2) * cellSize;
+        int lineTop = Math.max(0, minY - 1) * cellSize;
+        int lineBottom = Math.min(gridHeight, maxY + 2) * cellSize;
+        for (int y = minY; y <= maxY + 1; y++) {
+            g2d.drawLine(lineLeft, y * cellSize, lineRight, y * cellSize);
+        }
+        for (int x = minX; x <= maxX + 1; x++) {
+            g2d.drawLine(x * cellSize, lineTop, x * cellSize, lineBottom);
+        }
+
+        g2d.dispose();
+    }
+
+    /**
+     * cleans up resources when the panel is no longer needed.
+     */
+    public void dispose() {
+        if (animationManager != null) {
+            animationManager.dispose();
+        }
+    }
+
+    /**
+     * returns the cell size used for rendering at the default zoom.
+     */
+    public static int getCellSize() {
+        return CELL_SIZE;
+    }
+
+    /**
+     * returns the preferred size of the view, which does not depend on the map size.
+     */
+    public static Dimension getViewSize() {
+        return new Dimension(VIEW_SIZE, VIEW_SIZE);
+    }
+}
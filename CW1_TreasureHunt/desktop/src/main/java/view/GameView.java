@@ -2,6 +2,8 @@ package view;
 
 import controller.GameController;
 import model.GameModel;
+import model.ModelChange;
+import model.SearchResult;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -11,6 +13,7 @@ import java.awt.event.ActionListener;
 import java.awt.event.KeyListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.List;
 
 /**
  * The main view class for the Treasure Hunt game.
@@ -25,8 +28,7 @@ public class GameView extends JFrame {
     private JLabel scoreLabel;
     private JLabel treasureLabel;
     private JLabel statsLabel;
-    private JButton hintBFSButton;
-    private JButton hintAStarButton;
+    private JPanel buttonPanel;
     private JButton resetButton;
     private GameController controller;
 
@@ -78,10 +80,6 @@ public class GameView extends JFrame {
 
         // create game panel
         gamePanel = new GamePanel();
-        gamePanel.setPreferredSize(new Dimension(
-                GameModel.GRID_SIZE * GamePanel.getCellSize(),
-                GameModel.GRID_SIZE * GamePanel.getCellSize()
-        ));
 
         gamePanel.setBorder(BorderFactory.createMatteBorder(2, 2, 2, 2, Theme.GOLD));
 
@@ -100,7 +98,7 @@ public class GameView extends JFrame {
         controlPanel.setBackground(Theme.NAVY);
         controlPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
 
-        JPanel buttonPanel = new JPanel();
+        buttonPanel = new JPanel();
         buttonPanel.setBackground(Theme.NAVY);
         buttonPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 15, 0));
 
@@ -112,12 +110,8 @@ public class GameView extends JFrame {
         treasureLabel.setFont(Theme.HEADER_FONT);
         treasureLabel.setForeground(Theme.GOLD);
 
-        hintBFSButton = createStyledButton("BFS Hint");
-        hintAStarButton = createStyledButton("A* Hint");
         resetButton = createStyledButton("New Game");
 
-        hintBFSButton.setToolTipText("Shows the path to the nearest treasure using BFS (Cost: 3)");
-        hintAStarButton.setToolTipText("Shows the path to the nearest treasure using A* search (Cost: 3)");
         resetButton.setToolTipText("Restart the game with a new map");
 
         JPanel infoPanel = new JPanel();
@@ -126,8 +120,6 @@ public class GameView extends JFrame {
         infoPanel.add(scoreLabel);
         infoPanel.add(treasureLabel);
 
-        buttonPanel.add(hintBFSButton);
-        buttonPanel.add(hintAStarButton);
         buttonPanel.add(resetButton);
 
         controlPanel.add(infoPanel, BorderLayout.NORTH);
@@ -191,28 +183,101 @@ public class GameView extends JFrame {
      */
     public void updateView(GameModel model) {
         scoreLabel.setText("Score: " + model.getScore());
-        treasureLabel.setText("Treasures: " + model.getTreasuresFound() +
-                "/" + model.getTreasuresTotal());
+        updateTreasureLabel(model);
 
         gamePanel.setModel(model);
-        gamePanel.repaint();
+        gamePanel.repaintAll();
 
         gamePanel.requestFocusInWindow();
     }
 
+    /**
+     * shows the model and keeps the view in step with it from then on: every batch of
+     * changes the model flushes updates only the labels and cells it touches.
+     */
+    public void bindModel(GameModel model) {
+        updateView(model);
+        model.addModelListener(changes -> applyChanges(model, changes));
+    }
+
+    private void applyChanges(GameModel model, List<ModelChange> changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            switch (changes.get(i).getType()) {
+                case MAP_RESET:
+                    scoreLabel.setText("Score: " + model.getScore());
+                    updateTreasureLabel(model);
+                    break;
+                case TREASURE_COLLECTED:
+                    updateTreasureLabel(model);
+                    break;
+                case SCORE_CHANGED:
+                    scoreLabel.setText("Score: " + changes.get(i).getScore());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        gamePanel.applyChanges(changes);
+    }
+
+    private void updateTreasureLabel(GameModel model) {
+        treasureLabel.setText("Treasures: " + model.getTreasuresFound() +
+                "/" + model.getTreasuresTotal());
+    }
+
     /**
      * Updates the algorithm statistics display.
      */
     public void updateStatistics(boolean isBFS, int cellsExplored, int pathLength) {
-        String algorithm = isBFS ? "BFS" : "A*";
+        if (isBFS) {
+            updateStatistics("BFS", Theme.PATH_HINT_BFS_COLOR, cellsExplored, pathLength);
+        } else {
+            updateStatistics("A*", Theme.PATH_HINT_ASTAR_COLOR, cellsExplored, pathLength);
+        }
+    }
+
+    /**
+     * updates the statistics display for the named algorithm in its hint color.
+     */
+    public void updateStatistics(String algorithm, Color color, int cellsExplored, int pathLength) {
         statsLabel.setText(String.format("%s: Explored %d cells, Path length: %d",
                 algorithm, cellsExplored, pathLength));
+        statsLabel.setToolTipText(null);
+        statsLabel.setForeground(color);
+    }
 
-        if (isBFS) {
-            statsLabel.setForeground(Theme.PATH_HINT_BFS_COLOR);
-        } else {
-            statsLabel.setForeground(Theme.PATH_HINT_ASTAR_COLOR);
+    /**
+     * shows that a hint search for the named algorithm is running.
+     */
+    public void showHintPending(String algorithm, Color color) {
+        statsLabel.setText(algorithm + ": searching...");
+        statsLabel.setToolTipText(null);
+        statsLabel.setForeground(color);
+    }
+
+    /**
+     * clears the statistics display, e.g. when a pending hint is cancelled.
+     */
+    public void clearStatistics() {
+        statsLabel.setText("No path calculated yet");
+        statsLabel.setToolTipText(null);
+        statsLabel.setForeground(Theme.TEXT_LIGHT);
+    }
+
+    /**
+     * updates the statistics display from a search result; the heap operations,
+     * time and allocation of the search are shown in the tooltip.
+     */
+    public void updateStatistics(String algorithm, Color color, SearchResult result) {
+        updateStatistics(algorithm, color, result.getExpandedNodes(), result.getPathLength());
+
+        String details = String.format("%d heap operations, %.3f ms",
+                result.getHeapOperations(), result.getElapsedNanos() / 1_000_000.0);
+        if (result.getBytesAllocated() >= 0) {
+            details += String.format(", %d bytes allocated", result.getBytesAllocated());
         }
+        statsLabel.setToolTipText(details);
     }
 
     /**
@@ -339,24 +404,38 @@ public class GameView extends JFrame {
     }
 
     /**
-     * adds key listener to the game panel.
+     * zooms the game view in one level.
      */
-    public void addKeyboardListener(KeyListener listener) {
-        gamePanel.addKeyListener(listener);
+    public void zoomIn() {
+        gamePanel.zoomIn();
     }
 
     /**
-     * adds action listener to the BFS hint button.
+     * zooms the game view out one level.
      */
-    public void addHintBFSButtonListener(ActionListener listener) {
-        hintBFSButton.addActionListener(listener);
+    public void zoomOut() {
+        gamePanel.zoomOut();
     }
 
     /**
-     * adds action listener to the A* hint button.
+     * adds key listener to the game panel.
      */
-    public void addHintAStarButtonListener(ActionListener listener) {
-        hintAStarButton.addActionListener(listener);
+    public void addKeyboardListener(KeyListener listener) {
+        gamePanel.addKeyListener(listener);
+    }
+
+    /**
+     * adds a hint button for a search algorithm, before the reset button; its tooltip
+     * shows what a hint costs.
+     */
+    public void addHintButton(String name, String description, int hintCost, ActionListener listener) {
+        JButton hintButton = createStyledButton(name + " Hint");
+        hintButton.setToolTipText("Shows the path to the nearest treasure using " + description
+                + " (Cost: " + hintCost + ")");
+        hintButton.addActionListener(listener);
+
+        buttonPanel.add(hintButton, buttonPanel.getComponentCount() - 1);
+        buttonPanel.revalidate();
     }
 
     /**
@@ -373,14 +452,6 @@ public class GameView extends JFrame {
         welcomeScreen.addStartButtonListener(listener);
     }
 
-    /**
-     * Legacy method to maintain backward compatibility.
-     * adds action listener to the BFS hint button.
-     */
-    public void addHintButtonListener(ActionListener listener) {
-        addHintBFSButtonListener(listener);
-    }
-
     /**
      * Sets the controller reference for popup dialogs
      */
@@ -0,0 +1,248 @@
+package view;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * pre-rendered cell sprites, so a frame is drawn by blitting images instead of
+ * rasterizing anti-aliased shapes for every cell.
+ * each cell type and each animation phase (pulse steps, hint blink states,
+ * obstacle hit fades, sparkle frames) is rendered once into a compatible image
+ * at device resolution. the atlas rebuilds itself when the cell size, the device
+ * configuration or the scale of the graphics changes, and invalidate() forces a
+ * rebuild, e.g. after a theme change.
+ */
+class TileAtlas {
+    private static final int MARGIN = 1;
+    private static final int OBSTACLE_HIT_FRAMES = 11;
+
+    // number of pulse brightness levels between PLAYER_PULSE_MIN and PLAYER_PULSE_MAX
+    static final int PULSE_STEPS = Math.round(
+            (AnimationManager.PLAYER_PULSE_MAX - AnimationManager.PLAYER_PULSE_MIN) / AnimationManager.PLAYER_PULSE_STEP) + 1;
+
+    // what the current tiles were rendered for
+    private int cellSize;
+    private GraphicsConfiguration configuration;
+    private double scale;
+    private boolean valid;
+
+    private BufferedImage empty;
+    private BufferedImage obstacle;
+    private BufferedImage treasure;
+    private final BufferedImage[] player = new BufferedImage[PULSE_STEPS];
+    // indexed by [aStar ? 1 : 0][visible ? 1 : 0]
+    private final BufferedImage[][] hint = new BufferedImage[2][2];
+    private final BufferedImage[] obstacleHit = new BufferedImage[OBSTACLE_HIT_FRAMES];
+    // sparkle frames span the treasure cell and its neighbours; index is sparkles left
+    private final BufferedImage[] sparkles = new BufferedImage[AnimationManager.TREASURE_SPARKLE_COUNT + 1];
+
+    /**
+     * makes sure the tiles match the cell size, the device the graphics draws to and
+     * its scale. a display's scale can change while its device configuration stays
+     * the same, so the scale is read on every call; getTransform returns a new copy,
+     * so this is meant for once per paint, and the animation pass uses validateSize.
+     */
+    void validate(Graphics2D g2d, int cellSize) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        double scale = g2d.getTransform().getScaleX();
+
+        if (!valid || this.cellSize != cellSize || configuration != gc || this.scale != scale) {
+            this.configuration = gc;
+            this.scale = scale;
+            this.cellSize = cellSize;
+            render();
+            valid = true;
+        }
+    }
+
+    /**
+     * like validate, but without reading the scale unless the tiles must be rendered
+     * anyway, so it allocates nothing. for drawing at the scale of the last validate,
+     * e.g. the animation pass of a paint that has already validated the atlas.
+     */
+    void validateSize(Graphics2D g2d, int cellSize) {
+        if (!valid || this.cellSize != cellSize || configuration != g2d.getDeviceConfiguration()) {
+            validate(g2d, cellSize);
+        }
+    }
+
+    /**
+     * returns the width in pixels of the cell tiles, which is the cell size times the scale.
+     */
+    int getTilePixels() {
+        return empty.getWidth();
+    }
+
+    /**
+     * forces the tiles to be rendered again before the next frame.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    void drawEmpty(Graphics2D g2d, int cellX, int cellY) {
+        blit(g2d, empty, cellX, cellY, cellSize);
+    }
+
+    void drawObstacle(Graphics2D g2d, int cellX, int cellY) {
+        blit(g2d, obstacle, cellX, cellY, cellSize);
+    }
+
+    void drawTreasure(Graphics2D g2d, int cellX, int cellY) {
+        blit(g2d, treasure, cellX, cellY, cellSize);
+    }
+
+    /**
+     * draws the player at the pulse step closest to the given brightness.
+     */
+    void drawPlayer(Graphics2D g2d, float pulseValue, int cellX, int cellY) {
+        int step = Math.round((pulseValue - AnimationManager.PLAYER_PULSE_MIN) / AnimationManager.PLAYER_PULSE_STEP);
+        step = Math.max(0, Math.min(PULSE_STEPS - 1, step));
+        blit(g2d, player[step], cellX, cellY, cellSize);
+    }
+
+    void drawHint(Graphics2D g2d, boolean aStar, boolean visible, int cellX, int cellY) {
+        blit(g2d, hint[aStar ? 1 : 0][visible ? 1 : 0], cellX, cellY, cellSize);
+    }
+
+    void drawObstacleHit(Graphics2D g2d, int frame, int cellX, int cellY) {
+        blit(g2d, obstacleHit[Math.max(0, Math.min(OBSTACLE_HIT_FRAMES - 1, frame))], cellX, cellY, cellSize);
+    }
+
+    /**
+     * draws a sparkle frame centred on the cell at (cellX, cellY).
+     */
+    void drawSparkles(Graphics2D g2d, int sparklesLeft, int cellX, int cellY) {
+        if (sparklesLeft > 0 && sparklesLeft < sparkles.length) {
+            blit(g2d, sparkles[sparklesLeft], cellX - cellSize, cellY - cellSize, 3 * cellSize);
+        }
+    }
+
+    private void blit(Graphics2D g2d, BufferedImage tile, int x, int y, int size) {
+        if (tile.getWidth() == size) {
+            g2d.drawImage(tile, x, y, null);
+        } else {
+            g2d.drawImage(tile, x, y, size, size, null);
+        }
+    }
+
+    private void render() {
+        int inner = cellSize - (2 * MARGIN);
+
+        empty = tile(1);
+        fill(empty, Theme.EMPTY_CELL_COLOR, 4);
+
+        obstacle = tile(1);
+        fill(obstacle, Theme.OBSTACLE_COLOR, 4);
+
+        treasure = tile(1);
+        renderTreasure(treasure);
+
+        Color baseColor = Theme.PLAYER_COLOR;
+        float[] hsb = Color.RGBtoHSB(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), null);
+        for (int step = 0; step < PULSE_STEPS; step++) {
+            float pulse = AnimationManager.PLAYER_PULSE_MIN + step * AnimationManager.PLAYER_PULSE_STEP;
+            player[step] = tile(1);
+            Graphics2D g = begin(player[step]);
+            g.setColor(Color.getHSBColor(hsb[0], hsb[1], Math.min(pulse, AnimationManager.PLAYER_PULSE_MAX)));
+            g.fillRoundRect(MARGIN, MARGIN, inner, inner, 6, 6);
+
+            g.setColor(Theme.TEXT_LIGHT);
+            int iconMargin = cellSize / 3;
+            g.fillOval(iconMargin, iconMargin, cellSize - (2 * iconMargin), cellSize - (2 * iconMargin));
+            g.dispose();
+        }
+
+        for (int aStar = 0; aStar < 2; aStar++) {
+            hint[aStar][1] = tile(1);
+            Graphics2D g = begin(hint[aStar][1]);
+            g.setColor(aStar == 1 ? Theme.PATH_HINT_ASTAR_COLOR : Theme.PATH_HINT_BFS_COLOR);
+            g.fillRoundRect(MARGIN, MARGIN, inner, inner, 4, 4);
+
+            g.setColor(aStar == 1 ? new Color(50, 100, 200) : new Color(50, 150, 50));
+            int[] xPoints = {cellSize / 5, cellSize * 4 / 5, cellSize / 2};
+            int[] yPoints = {cellSize / 2, cellSize / 2, cellSize * 3 / 4};
+            g.fillPolygon(xPoints, yPoints, 3);
+            g.dispose();
+
+            hint[aStar][0] = tile(1);
+            fill(hint[aStar][0], aStar == 1 ? new Color(180, 200, 255) : new Color(180, 255, 180), 4);
+        }
+
+        for (int frame = 0; frame < OBSTACLE_HIT_FRAMES; frame++) {
+            obstacleHit[frame] = tile(1);
+            fill(obstacleHit[frame], new Color(255, 70, 70, Math.max(0, 255 - (frame * 25))), 4);
+        }
+
+        for (int frame = 1; frame < sparkles.length; frame++) {
+            sparkles[frame] = tile(3);
+            Graphics2D g = begin(sparkles[frame]);
+            renderSparkles(g, cellSize, cellSize, frame);
+            g.dispose();
+        }
+    }
+
+    private void renderTreasure(BufferedImage image) {
+        fill(image, Theme.TREASURE_COLOR, 4);
+
+        Graphics2D g = begin(image);
+        int iconSize = cellSize / 2;
+        int iconX = (cellSize - iconSize) / 2;
+        int iconY = (cellSize - iconSize) / 2;
+
+        int[] xPoints = {iconX + iconSize / 2, iconX + iconSize, iconX + iconSize / 2, iconX};
+        int[] yPoints = {iconY, iconY + iconSize / 2, iconY + iconSize, iconY + iconSize / 2};
+
+        g.setColor(Theme.SOFT_GOLD);
+        g.fillPolygon(xPoints, yPoints, 4);
+
+        g.setColor(Color.WHITE);
+        g.drawLine(iconX + iconSize / 4, iconY + iconSize / 4, iconX + iconSize / 2, iconY + iconSize / 2);
+        g.dispose();
+    }
+
+    private void renderSparkles(Graphics2D g, int cellX, int cellY, int frame) {
+        int count = AnimationManager.TREASURE_SPARKLE_COUNT;
+        g.setColor(Color.WHITE);
+
+        for (int i = 0; i < 8; i++) {
+            double angle = i * Math.PI / 4.0;
+            int sparkleRadius = (count - frame + 1) * cellSize / count;
+
+            int sparkleX = cellX + cellSize / 2 + (int) (Math.cos(angle) * sparkleRadius);
+            int sparkleY = cellY + cellSize / 2 + (int) (Math.sin(angle) * sparkleRadius);
+
+            int sparkleSize = Math.max(2, cellSize / 10);
+            g.fillOval(sparkleX - sparkleSize / 2, sparkleY - sparkleSize / 2, sparkleSize, sparkleSize);
+        }
+    }
+
+    private void fill(BufferedImage image, Color color, int arc) {
+        Graphics2D g = begin(image);
+        g.setColor(color);
+        g.fillRoundRect(MARGIN, MARGIN, cellSize - (2 * MARGIN), cellSize - (2 * MARGIN), arc, arc);
+        g.dispose();
+    }
+
+    /**
+     * creates a transparent tile spanning the given number of cells, at device resolution.
+     */
+    private BufferedImage tile(int cells) {
+        int pixels = (int) Math.ceil(cells * cellSize * scale);
+        if (configuration != null) {
+            return configuration.createCompatibleImage(pixels, pixels, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * opens an anti-aliased graphics on a tile, scaled so it takes cell coordinates.
+     */
+    private Graphics2D begin(BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.transform(AffineTransform.getScaleInstance(scale, scale));
+        return g;
+    }
+}
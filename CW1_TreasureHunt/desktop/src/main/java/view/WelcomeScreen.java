@@ -1,7 +1,5 @@
 package view;
 
-import model.GameModel;
-
 import javax.swing.*;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
@@ -15,10 +13,7 @@ public class WelcomeScreen extends JPanel {
 
     public WelcomeScreen() {
         setLayout(new BorderLayout());
-        setPreferredSize(new Dimension(
-                GameModel.GRID_SIZE * GamePanel.getCellSize(),
-                GameModel.GRID_SIZE * GamePanel.getCellSize()
-        ));
+        setPreferredSize(GamePanel.getViewSize());
         setBackground(Theme.NAVY);
 
         JPanel titlePanel = new JPanel();
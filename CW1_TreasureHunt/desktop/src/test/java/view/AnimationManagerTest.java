@@ -0,0 +1,180 @@
+package view;
+
+import model.AStarSearch;
+import model.Cell;
+import model.Coordinates;
+import model.Direction;
+import model.GameModel;
+import model.GameRules;
+import model.MapSnapshot;
+import model.SearchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * the animation pass must not allocate: a frame with the pulsing player, a hint,
+ * an obstacle hit and a sparkling treasure is drawn into an off-screen image,
+ * and the thread's allocated bytes are read around several windows of many
+ * frames. the warm-up lets the frame get compiled, which is when escape analysis
+ * removes the temporaries Java2D creates inside drawImage.
+ */
+class AnimationManagerTest {
+    private static final int SIZE = 64;
+    private static final int WARMUP_FRAMES = 20_000;
+    private static final int FRAMES = 10_000;
+    private static final int ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private GameModel model;
+    private MapSnapshot snapshot;
+    private AnimationManager animationManager;
+    private BufferedImage image;
+    private Graphics2D g2d;
+    private int obstacle = -1;
+    private int treasure = -1;
+
+    @BeforeEach
+    void setUp() {
+        model = new GameModel(SIZE, SIZE, 0.2, 20240601, new GameRules(100000, 1, 1, 1));
+        revealObstacle();
+        collectTreasure();
+        assertTrue(model.showHint(new AStarSearch()));
+        snapshot = model.publishSnapshot();
+
+        animationManager = new AnimationManager();
+        animationManager.startHintPathAnimation(true);
+        animationManager.startObstacleHitAnimation(x(obstacle), y(obstacle));
+        animationManager.startTreasureCollectAnimation(x(treasure), y(treasure));
+        // stop the clock, so every frame draws the same state
+        animationManager.dispose();
+
+        image = new BufferedImage(640, 640, BufferedImage.TYPE_INT_ARGB_PRE);
+        g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @AfterEach
+    void tearDown() {
+        g2d.dispose();
+    }
+
+    @Test
+    void frameDrawsEveryAnimation() {
+        assertEquals(Cell.OBSTACLE, snapshot.getCell(obstacle));
+        assertEquals(Cell.TREASURE, snapshot.getCell(treasure));
+        assertEquals(Cell.PATH_HINT, snapshot.getCell(snapshot.getHintCell(0)));
+    }
+
+    @Test
+    void frameAllocatesNothing() {
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        drawFrames(WARMUP_FRAMES);
+        long overhead = allocatedBy(0);
+        // a late recompilation can land in one window; an allocating frame shows in all of them
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            allocated = Math.min(allocated, allocatedBy(FRAMES) - overhead);
+        }
+
+        assertEquals(0, allocated, "bytes allocated by " + FRAMES + " frames");
+    }
+
+    /**
+     * returns the bytes the current thread allocates while drawing the given number of frames.
+     */
+    private long allocatedBy(int frames) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        drawFrames(frames);
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private void drawFrames(int frames) {
+        for (int i = 0; i < frames; i++) {
+            animationManager.drawAnimations(g2d, snapshot, GamePanel.getCellSize());
+        }
+    }
+
+    /**
+     * walks at random until a move is refused by an obstacle, which reveals it.
+     */
+    private void revealObstacle() {
+        SplittableRandom random = new SplittableRandom(1);
+        Direction[] directions = Direction.values();
+        while (obstacle == -1) {
+            Direction direction = directions[random.nextInt(directions.length)];
+            int from = model.getPlayerCell();
+            int target = neighbour(direction);
+            model.movePlayer(direction);
+            if (model.getPlayerCell() == from && target != -1) {
+                obstacle = target;
+            }
+        }
+    }
+
+    /**
+     * walks an A* path to the nearest treasure, then steps back off it so it shows as collected.
+     */
+    private void collectTreasure() {
+        assertTrue(model.showHint(new AStarSearch()));
+        SearchResult path = model.getLastSearch();
+        int previous = model.getPlayerCell();
+        for (int i = 0; treasure == -1; i++) {
+            int cell = path.getPathCell(i);
+            if (model.movePlayer(towards(cell))) {
+                treasure = cell;
+            } else {
+                previous = cell;
+            }
+        }
+        model.movePlayer(towards(previous));
+    }
+
+    private int neighbour(Direction direction) {
+        int x = model.getPlayerX();
+        int y = model.getPlayerY();
+        switch (direction) {
+            case UP:
+                y--;
+                break;
+            case DOWN:
+                y++;
+                break;
+            case LEFT:
+                x--;
+                break;
+            default:
+                x++;
+                break;
+        }
+        return model.isValidPosition(x, y) ? Coordinates.encode(x, y, SIZE) : -1;
+    }
+
+    private Direction towards(int cell) {
+        if (x(cell) != model.getPlayerX()) {
+            return x(cell) < model.getPlayerX() ? Direction.LEFT : Direction.RIGHT;
+        }
+        return y(cell) < model.getPlayerY() ? Direction.UP : Direction.DOWN;
+    }
+
+    private static int x(int cell) {
+        return Coordinates.decodeX(cell, SIZE);
+    }
+
+    private static int y(int cell) {
+        return Coordinates.decodeY(cell, SIZE);
+    }
+}
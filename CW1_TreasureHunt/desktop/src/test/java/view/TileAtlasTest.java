@@ -0,0 +1,60 @@
+package view;
+
+import model.GameModel;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * tiles follow the scale of the graphics they are drawn with, even when the device
+ * configuration stays the same, as it does when a display's scaling is changed.
+ */
+class TileAtlasTest {
+    private static final int CELL = 30;
+
+    @Test
+    void tilesAreRenderedAgainWhenTheScaleChanges() {
+        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB_PRE);
+        TileAtlas atlas = new TileAtlas();
+
+        assertEquals(CELL, draw(atlas, image, 1));
+        assertEquals(2 * CELL, draw(atlas, image, 2));
+        assertEquals(3 * CELL / 2, draw(atlas, image, 1.5));
+        assertEquals(CELL, draw(atlas, image, 1));
+    }
+
+    @Test
+    void panelPaintsAtEachScale() {
+        GamePanel panel = new GamePanel();
+        panel.setModel(new GameModel(20, 20, GameModel.DEFAULT_DENSITY, 1));
+        panel.setSize(300, 300);
+        BufferedImage image = new BufferedImage(600, 600, BufferedImage.TYPE_INT_ARGB_PRE);
+        try {
+            int cellSize = GamePanel.getCellSize();
+            for (double scale : new double[] {1, 2, 1.25, 1}) {
+                Graphics2D g2d = image.createGraphics();
+                g2d.scale(scale, scale);
+                panel.paintComponent(g2d);
+                g2d.dispose();
+                assertEquals((int) Math.ceil(cellSize * scale), panel.getTileAtlas().getTilePixels(), "scale " + scale);
+            }
+        } finally {
+            panel.dispose();
+        }
+    }
+
+    /**
+     * draws an empty cell at the given scale and returns the width of the tiles used.
+     */
+    private static int draw(TileAtlas atlas, BufferedImage image, double scale) {
+        Graphics2D g2d = image.createGraphics();
+        g2d.scale(scale, scale);
+        atlas.validate(g2d, CELL);
+        atlas.drawEmpty(g2d, 0, 0);
+        g2d.dispose();
+        return atlas.getTilePixels();
+    }
+}